@@ -0,0 +1,22 @@
+package com.mygitgor.cart_service.client;
+
+import com.mygitgor.cart_service.dto.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.client.cache.invalidation.enabled", havingValue = "true")
+public class ProductChangeListener {
+    private final ProductClient productClient;
+
+    @RabbitListener(queues = "#{productChangedQueue.name}", containerFactory = "productEventsListenerFactory")
+    public void onProductChanged(ProductChangedEvent event) {
+        log.debug("Evicting changed products from near-cache: {}", event.getProductIds());
+        productClient.evict(event.getProductIds());
+    }
+}
@@ -1,77 +1,51 @@
 package com.mygitgor.cart_service.client;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.mygitgor.cart_service.dto.ProductDto;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
-import io.github.resilience4j.retry.annotation.Retry;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.UUID;
 
-@Slf4j
+/**
+ * Near-cache in front of {@link ProductRemoteClient}. Entries expire after a short TTL; hot
+ * entries are reloaded in the background once they pass the refresh interval, so popular
+ * products are served locally without ever blocking on a reload.
+ */
 @Component
-@RequiredArgsConstructor
 public class ProductClient {
-    private final RestTemplate restTemplate;
-
-    @Value("${product.service.url:http://localhost:8086/api/products}")
-    private String productServiceUrl;
-
-    @Value("${internal.auth.token}")
-    private String internalToken;
+    private final ProductRemoteClient remoteClient;
+    private final LoadingCache<UUID, ProductDto> products;
+
+    public ProductClient(ProductRemoteClient remoteClient,
+                         MeterRegistry meterRegistry,
+                         @Value("${product.client.cache.ttl:30s}") Duration ttl,
+                         @Value("${product.client.cache.refresh-after:10s}") Duration refreshAfter,
+                         @Value("${product.client.cache.max-size:10000}") long maxSize) {
+        this.remoteClient = remoteClient;
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .refreshAfterWrite(refreshAfter)
+                .recordStats()
+                .build(remoteClient::getProductById);
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "product.client");
+    }
 
-    @CircuitBreaker(name = "productService", fallbackMethod = "getProductFallback")
-    @Retry(name = "productService", fallbackMethod = "getProductFallback")
-    @RateLimiter(name = "productService")
-    @Bulkhead(name = "productService")
     public ProductDto getProductById(UUID productId) {
-        String url = UriComponentsBuilder.fromUriString(productServiceUrl)
-                .path("/{productId}")
-                .buildAndExpand(productId)
-                .toUriString();
-
-        ResponseEntity<ProductDto> response = restTemplate.exchange(
-                url, HttpMethod.GET, createHttpEntity(null), ProductDto.class
-        );
-        log.debug("Retrieved product: {}", productId);
-        return response.getBody();
+        return products.get(productId);
     }
 
-    @CircuitBreaker(name = "productService", fallbackMethod = "existsByIdFallback")
-    @Retry(name = "productService", fallbackMethod = "existsByIdFallback")
     public boolean existsById(UUID productId) {
-        String url = UriComponentsBuilder.fromUriString(productServiceUrl)
-                .path("/{productId}/exists")
-                .buildAndExpand(productId)
-                .toUriString();
-
-        ResponseEntity<Boolean> response = restTemplate.exchange(
-                url, HttpMethod.GET, createHttpEntity(null), Boolean.class
-        );
-        return Boolean.TRUE.equals(response.getBody());
-    }
-
-    private <T> HttpEntity<T> createHttpEntity(T body) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("X-Internal-Service-Auth", internalToken);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        return new HttpEntity<>(body, headers);
-    }
-
-    private ProductDto getProductFallback(UUID productId, Exception e) {
-        log.warn("Using fallback for product: {}, error: {}", productId, e.getMessage());
-        throw new RuntimeException("Product service unavailable for product: " + productId);
+        return products.getIfPresent(productId) != null || remoteClient.existsById(productId);
     }
 
-    private boolean existsByIdFallback(UUID productId, Exception e) {
-        log.warn("Using fallback for product existence check: {}", productId);
-        return false;
+    public void evict(Collection<UUID> productIds) {
+        products.invalidateAll(productIds);
     }
 }
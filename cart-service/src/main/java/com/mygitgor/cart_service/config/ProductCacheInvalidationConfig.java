@@ -0,0 +1,55 @@
+package com.mygitgor.cart_service.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.Jackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Subscribes the product near-cache to {@code product.changed} broadcasts from product-service.
+ * Without it, cached products simply age out with the cache TTL.
+ */
+@Configuration
+@ConditionalOnProperty(name = "product.client.cache.invalidation.enabled", havingValue = "true")
+public class ProductCacheInvalidationConfig {
+    public static final String PRODUCT_EXCHANGE = "product.exchange";
+    public static final String PRODUCT_CHANGED_ROUTING_KEY = "product.changed";
+
+    @Bean
+    public TopicExchange productExchange() {
+        return new TopicExchange(PRODUCT_EXCHANGE);
+    }
+
+    @Bean
+    public Queue productChangedQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding productChangedBinding(Queue productChangedQueue, TopicExchange productExchange) {
+        return BindingBuilder.bind(productChangedQueue)
+                .to(productExchange)
+                .with(PRODUCT_CHANGED_ROUTING_KEY);
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory productEventsListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        // The publisher's type id names a product-service class, so map by the listener argument instead.
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        converter.setTypePrecedence(Jackson2JavaTypeMapper.TypePrecedence.INFERRED);
+        factory.setMessageConverter(converter);
+        return factory;
+    }
+}
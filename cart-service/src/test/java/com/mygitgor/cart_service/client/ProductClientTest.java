@@ -0,0 +1,105 @@
+package com.mygitgor.cart_service.client;
+
+import com.mygitgor.cart_service.dto.ProductChangedEvent;
+import com.mygitgor.cart_service.dto.ProductDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProductClientTest {
+    private ProductRemoteClient remoteClient;
+    private ProductClient productClient;
+
+    @BeforeEach
+    void setUp() {
+        remoteClient = mock(ProductRemoteClient.class);
+        productClient = new ProductClient(remoteClient, new SimpleMeterRegistry(),
+                Duration.ofMinutes(1), Duration.ofSeconds(30), 100);
+    }
+
+    @Test
+    void getProductById_ServesRepeatLookupsLocally() {
+        ProductDto product = product();
+        when(remoteClient.getProductById(product.getId())).thenReturn(product);
+
+        productClient.getProductById(product.getId());
+        productClient.getProductById(product.getId());
+
+        verify(remoteClient, times(1)).getProductById(product.getId());
+    }
+
+    @Test
+    void getProductById_RefreshesStaleEntriesInBackground() throws InterruptedException {
+        ProductClient refreshingClient = new ProductClient(remoteClient, new SimpleMeterRegistry(),
+                Duration.ofMinutes(1), Duration.ofMillis(50), 100);
+        UUID productId = UUID.randomUUID();
+        ProductDto stale = product(productId, "Stale");
+        ProductDto fresh = product(productId, "Fresh");
+        when(remoteClient.getProductById(productId)).thenReturn(stale, fresh);
+        refreshingClient.getProductById(productId);
+        Thread.sleep(100);
+
+        refreshingClient.getProductById(productId);
+
+        verify(remoteClient, timeout(1000).times(2)).getProductById(productId);
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!fresh.equals(refreshingClient.getProductById(productId)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(fresh, refreshingClient.getProductById(productId));
+    }
+
+    @Test
+    void evict_ForcesReloadOnNextLookup() {
+        ProductDto product = product();
+        when(remoteClient.getProductById(product.getId())).thenReturn(product);
+        productClient.getProductById(product.getId());
+
+        productClient.evict(List.of(product.getId()));
+        productClient.getProductById(product.getId());
+
+        verify(remoteClient, times(2)).getProductById(product.getId());
+    }
+
+    @Test
+    void existsById_UsesCachedProductWithoutRemoteCall() {
+        ProductDto product = product();
+        when(remoteClient.getProductById(product.getId())).thenReturn(product);
+        productClient.getProductById(product.getId());
+
+        assertTrue(productClient.existsById(product.getId()));
+
+        verify(remoteClient, never()).existsById(product.getId());
+    }
+
+    @Test
+    void onProductChanged_EvictsChangedProducts() {
+        ProductDto product = product();
+        when(remoteClient.getProductById(product.getId())).thenReturn(product);
+        productClient.getProductById(product.getId());
+
+        new ProductChangeListener(productClient)
+                .onProductChanged(new ProductChangedEvent(List.of(product.getId())));
+        productClient.getProductById(product.getId());
+
+        verify(remoteClient, times(2)).getProductById(product.getId());
+    }
+
+    private static ProductDto product() {
+        return product(UUID.randomUUID(), "Product");
+    }
+
+    private static ProductDto product(UUID id, String title) {
+        return ProductDto.builder()
+                .id(id)
+                .title(title)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.mygitgor.order_service.checkout;
+
+import com.mygitgor.order_service.dto.CreateOrderRequest;
+import com.mygitgor.order_service.dto.clientDto.CartDto;
+import com.mygitgor.order_service.dto.clientDto.ProductDto;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * State shared by every step of a single {@code createOrder} call.
+ * Products are resolved at most once per id; repeated lookups are served
+ * from the snapshot taken at the start of the checkout.
+ */
+@Getter
+public class CheckoutContext {
+    /** Before the context, each of the three passes over the cart fetched every item's product. */
+    static final int BASELINE_CALLS_PER_ITEM = 3;
+
+    private final String userId;
+    private final CreateOrderRequest request;
+    private final CartDto cart;
+
+    private final Map<UUID, ProductDto> products = new ConcurrentHashMap<>();
+    private final Function<UUID, ProductDto> productLoader;
+
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+
+    public CheckoutContext(String userId, CreateOrderRequest request, CartDto cart,
+                           Function<UUID, ProductDto> productLoader) {
+        this.userId = userId;
+        this.request = request;
+        this.cart = cart;
+        this.productLoader = productLoader;
+    }
+
+    public void preloadProducts(Collection<ProductDto> loaded) {
+        remoteCalls.incrementAndGet();
+        for (ProductDto product : loaded) {
+            products.put(product.getId(), product);
+        }
+    }
+
+    public ProductDto getProduct(UUID productId) {
+        return products.computeIfAbsent(productId, id -> {
+            remoteCalls.incrementAndGet();
+            return productLoader.apply(id);
+        });
+    }
+
+    public int getRemoteCallsSaved() {
+        int cartItems = cart.getCartItems() == null ? 0 : cart.getCartItems().size();
+        return Math.max(0, BASELINE_CALLS_PER_ITEM * cartItems - remoteCalls.get());
+    }
+}
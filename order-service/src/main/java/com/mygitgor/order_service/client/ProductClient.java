@@ -1,61 +1,114 @@
 package com.mygitgor.order_service.client;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.mygitgor.order_service.dto.clientDto.ProductDto;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
-import lombok.RequiredArgsConstructor;
+import com.mygitgor.order_service.dto.clientDto.StockReservationRequest;
+import com.mygitgor.order_service.dto.clientDto.StockReservationResponse;
+import com.mygitgor.order_service.dto.clientDto.StockValidationRequest;
+import com.mygitgor.order_service.dto.clientDto.StockValidationResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.UUID;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Near-cache in front of {@link ProductRemoteClient} for product lookups. Entries expire after a
+ * short TTL; hot entries are reloaded in the background once they pass the refresh interval.
+ * Checkout lookups and stock reservations always go to product-service.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ProductClient {
-    private final RestTemplate restTemplate;
-
-    @Value("${product.service.url:http://localhost:8086/api/products}")
-    private String productServiceUrl;
-
-    @Value("${internal.auth.token}")
-    private String internalToken;
-
-    @CircuitBreaker(name = "productService", fallbackMethod = "getProductFallback")
-    @Retry(name = "productService", fallbackMethod = "getProductFallback")
-    @RateLimiter(name = "productService")
-    @Bulkhead(name = "productService")
-    public ProductDto getProductById(String id){
-            String url = UriComponentsBuilder.fromUriString(productServiceUrl)
-                    .path("/{id}")
-                    .buildAndExpand(id)
-                    .toUriString();
-            ResponseEntity<ProductDto> response = restTemplate.exchange(
-                    url, HttpMethod.GET, createHttpEntity(null), ProductDto.class
-            );
-            log.debug("Retrieved product: {}", id);
-            return response.getBody();
-    }
-
-    private <T> HttpEntity<T> createHttpEntity(T body) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("X-Internal-Service-Auth", internalToken);
-        return new HttpEntity<>(body, headers);
-    }
-
-    private ProductDto getProductByIdFallback(String id, Exception e) {
-        log.warn("Using fallback for product: {}, error: {}", id, e.getMessage());
-        ProductDto fallbackProduct = new ProductDto();
-        fallbackProduct.setId(UUID.fromString(id));
-        fallbackProduct.setDescription("Product unavailable");
-        fallbackProduct.setInStock(false);
-        return fallbackProduct;
+    private final ProductRemoteClient remoteClient;
+    private final LoadingCache<UUID, ProductDto> products;
+
+    public ProductClient(ProductRemoteClient remoteClient,
+                         MeterRegistry meterRegistry,
+                         @Value("${product.client.cache.ttl:30s}") Duration ttl,
+                         @Value("${product.client.cache.refresh-after:10s}") Duration refreshAfter,
+                         @Value("${product.client.cache.max-size:10000}") long maxSize) {
+        this.remoteClient = remoteClient;
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .refreshAfterWrite(refreshAfter)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public ProductDto load(UUID id) {
+                        return remoteClient.getProductById(id.toString());
+                    }
+
+                    @Override
+                    public Map<UUID, ProductDto> loadAll(Set<? extends UUID> ids) {
+                        return remoteClient.getProductsByIds(new ArrayList<>(ids)).stream()
+                                .collect(Collectors.toMap(ProductDto::getId, Function.identity(), (a, b) -> a));
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "product.client");
+    }
+
+    public ProductDto getProductById(String id) {
+        try {
+            return products.get(UUID.fromString(id));
+        } catch (RuntimeException e) {
+            log.warn("Product {} unavailable: {}", id, e.getMessage());
+            ProductDto fallbackProduct = new ProductDto();
+            fallbackProduct.setId(UUID.fromString(id));
+            fallbackProduct.setDescription("Product unavailable");
+            fallbackProduct.setInStock(false);
+            return fallbackProduct;
+        }
+    }
+
+    public List<ProductDto> getProductsByIds(Collection<UUID> ids) {
+        Map<UUID, ProductDto> found = products.getAll(ids);
+        return ids.stream()
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Always goes to product-service: orders are priced from live product data, never from the near-cache.
+     */
+    public List<ProductDto> getProductsForCheckout(Collection<UUID> ids) {
+        return remoteClient.getProductsByIds(ids);
+    }
+
+    public ProductDto getProductForCheckout(UUID id) {
+        return remoteClient.getProductById(id.toString());
+    }
+
+    /**
+     * Always goes to product-service: stock must be checked against live quantities, not the near-cache.
+     */
+    public StockValidationResponse validateStock(Map<UUID, Integer> productQuantities) {
+        return remoteClient.validateStock(new StockValidationRequest(productQuantities));
+    }
+
+    public StockReservationResponse reserveStock(StockReservationRequest request) {
+        return remoteClient.reserveStock(request);
+    }
+
+    public StockReservationResponse confirmReservation(UUID reservationId) {
+        return remoteClient.confirmReservation(reservationId);
+    }
+
+    public StockReservationResponse releaseReservation(UUID reservationId) {
+        return remoteClient.releaseReservation(reservationId);
+    }
+
+    public void evict(Collection<UUID> productIds) {
+        products.invalidateAll(productIds);
     }
 }
@@ -0,0 +1,163 @@
+package com.mygitgor.order_service.client;
+
+import com.mygitgor.order_service.dto.clientDto.ProductDto;
+import com.mygitgor.order_service.dto.clientDto.StockReservationRequest;
+import com.mygitgor.order_service.dto.clientDto.StockReservationResponse;
+import com.mygitgor.order_service.dto.clientDto.StockValidationRequest;
+import com.mygitgor.order_service.dto.clientDto.StockValidationResponse;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRemoteClient {
+    private final RestTemplate restTemplate;
+
+    @Value("${product.service.url:http://localhost:8086/api/products}")
+    private String productServiceUrl;
+
+    @Value("${internal.auth.token}")
+    private String internalToken;
+
+    @CircuitBreaker(name = "productService", fallbackMethod = "getProductByIdFallback")
+    @Retry(name = "productService", fallbackMethod = "getProductByIdFallback")
+    @RateLimiter(name = "productService")
+    @Bulkhead(name = "productService")
+    public ProductDto getProductById(String id){
+            String url = UriComponentsBuilder.fromUriString(productServiceUrl)
+                    .path("/{id}")
+                    .buildAndExpand(id)
+                    .toUriString();
+            ResponseEntity<ProductDto> response = restTemplate.exchange(
+                    url, HttpMethod.GET, createHttpEntity(null), ProductDto.class
+            );
+            log.debug("Retrieved product: {}", id);
+            return response.getBody();
+    }
+
+    @CircuitBreaker(name = "productService", fallbackMethod = "getProductsByIdsFallback")
+    @Retry(name = "productService", fallbackMethod = "getProductsByIdsFallback")
+    @RateLimiter(name = "productService")
+    @Bulkhead(name = "productService")
+    public List<ProductDto> getProductsByIds(Collection<UUID> ids){
+            String url = UriComponentsBuilder.fromUriString(productServiceUrl)
+                    .path("/batch")
+                    .toUriString();
+            ResponseEntity<ProductDto[]> response = restTemplate.exchange(
+                    url, HttpMethod.POST, createHttpEntity(ids), ProductDto[].class
+            );
+            log.debug("Retrieved products in batch: {}", ids);
+            return response.getBody() != null ? Arrays.asList(response.getBody()) : Collections.emptyList();
+    }
+
+    @CircuitBreaker(name = "productService", fallbackMethod = "reserveStockFallback")
+    @Retry(name = "productService", fallbackMethod = "reserveStockFallback")
+    @Bulkhead(name = "productService")
+    public StockReservationResponse reserveStock(StockReservationRequest request){
+            String url = UriComponentsBuilder.fromUriString(productServiceUrl)
+                    .path("/reservations")
+                    .toUriString();
+            try {
+                ResponseEntity<StockReservationResponse> response = restTemplate.exchange(
+                        url, HttpMethod.POST, createHttpEntity(request), StockReservationResponse.class
+                );
+                log.debug("Reserved stock for reference: {}", request.getReferenceId());
+                return response.getBody();
+            } catch (HttpClientErrorException.Conflict e) {
+                log.debug("Stock reservation rejected for reference: {}", request.getReferenceId());
+                return e.getResponseBodyAs(StockReservationResponse.class);
+            }
+    }
+
+    @CircuitBreaker(name = "productService", fallbackMethod = "validateStockFallback")
+    @Retry(name = "productService", fallbackMethod = "validateStockFallback")
+    @RateLimiter(name = "productService")
+    @Bulkhead(name = "productService")
+    public StockValidationResponse validateStock(StockValidationRequest request){
+            String url = UriComponentsBuilder.fromUriString(productServiceUrl)
+                    .path("/validate-stock")
+                    .toUriString();
+            ResponseEntity<StockValidationResponse> response = restTemplate.exchange(
+                    url, HttpMethod.POST, createHttpEntity(request), StockValidationResponse.class
+            );
+            log.debug("Validated stock for products: {}", request.getProductQuantities().keySet());
+            return response.getBody();
+    }
+
+    @CircuitBreaker(name = "productService", fallbackMethod = "confirmReservationFallback")
+    @Retry(name = "productService", fallbackMethod = "confirmReservationFallback")
+    public StockReservationResponse confirmReservation(UUID reservationId){
+            return transitionReservation(reservationId, "/reservations/{id}/confirm");
+    }
+
+    @CircuitBreaker(name = "productService", fallbackMethod = "reservationTransitionFallback")
+    @Retry(name = "productService", fallbackMethod = "reservationTransitionFallback")
+    public StockReservationResponse releaseReservation(UUID reservationId){
+            return transitionReservation(reservationId, "/reservations/{id}/release");
+    }
+
+    private StockReservationResponse transitionReservation(UUID reservationId, String path) {
+        String url = UriComponentsBuilder.fromUriString(productServiceUrl)
+                .path(path)
+                .buildAndExpand(reservationId)
+                .toUriString();
+        ResponseEntity<StockReservationResponse> response = restTemplate.exchange(
+                url, HttpMethod.POST, createHttpEntity(null), StockReservationResponse.class
+        );
+        log.debug("Reservation {} updated via {}", reservationId, path);
+        return response.getBody();
+    }
+
+    private <T> HttpEntity<T> createHttpEntity(T body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Internal-Service-Auth", internalToken);
+        return new HttpEntity<>(body, headers);
+    }
+
+    private ProductDto getProductByIdFallback(String id, Exception e) {
+        log.warn("Using fallback for product: {}, error: {}", id, e.getMessage());
+        throw new RuntimeException("Product service unavailable for product: " + id);
+    }
+
+    private List<ProductDto> getProductsByIdsFallback(Collection<UUID> ids, Exception e) {
+        log.warn("Using fallback for products batch: {}, error: {}", ids, e.getMessage());
+        throw new RuntimeException("Product service unavailable for products: " + ids);
+    }
+
+    private StockReservationResponse reserveStockFallback(StockReservationRequest request, Exception e) {
+        log.warn("Using fallback for stock reservation: {}, error: {}", request.getReferenceId(), e.getMessage());
+        throw new RuntimeException("Product service unavailable for stock reservation: " + request.getReferenceId());
+    }
+
+    private StockValidationResponse validateStockFallback(StockValidationRequest request, Exception e) {
+        log.warn("Using fallback for stock validation: {}, error: {}", request.getProductQuantities().keySet(), e.getMessage());
+        throw new RuntimeException("Product service unavailable for stock validation");
+    }
+
+    private StockReservationResponse confirmReservationFallback(UUID reservationId, Exception e) {
+        log.warn("Using fallback for reservation confirm: {}, error: {}", reservationId, e.getMessage());
+        throw new IllegalStateException("Product service could not confirm reservation: " + reservationId, e);
+    }
+
+    private StockReservationResponse reservationTransitionFallback(UUID reservationId, Exception e) {
+        log.warn("Using fallback for reservation: {}, error: {}", reservationId, e.getMessage());
+        return StockReservationResponse.builder()
+                .reservationId(reservationId)
+                .error("Product service unavailable")
+                .build();
+    }
+}
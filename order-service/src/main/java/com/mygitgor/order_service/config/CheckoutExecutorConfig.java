@@ -0,0 +1,55 @@
+package com.mygitgor.order_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class CheckoutExecutorConfig {
+
+    @Value("${order.checkout.executor.core-pool-size:8}")
+    private int corePoolSize;
+
+    @Value("${order.checkout.executor.max-pool-size:32}")
+    private int maxPoolSize;
+
+    @Value("${order.checkout.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${order.checkout.payment-executor.core-pool-size:4}")
+    private int paymentCorePoolSize;
+
+    @Value("${order.checkout.payment-executor.max-pool-size:16}")
+    private int paymentMaxPoolSize;
+
+    @Value("${order.checkout.payment-executor.queue-capacity:100}")
+    private int paymentQueueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor checkoutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("checkout-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Separate pool for payment-provider calls so slow links cannot starve order assembly.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor paymentLinkExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(paymentCorePoolSize);
+        executor.setMaxPoolSize(paymentMaxPoolSize);
+        executor.setQueueCapacity(paymentQueueCapacity);
+        executor.setThreadNamePrefix("payment-link-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
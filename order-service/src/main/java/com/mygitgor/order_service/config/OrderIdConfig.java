@@ -0,0 +1,51 @@
+package com.mygitgor.order_service.config;
+
+import com.mygitgor.order_service.id.OrderIdGenerator;
+import com.mygitgor.order_service.id.SnowflakeOrderIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+public class OrderIdConfig {
+
+    /**
+     * Every running instance needs its own worker id, otherwise two replicas can issue the same
+     * order number. There is deliberately no default.
+     */
+    @Value("${order.id.worker-id:#{null}}")
+    private Long workerId;
+
+    @Bean
+    @ConditionalOnMissingBean(OrderIdGenerator.class)
+    public OrderIdGenerator orderIdGenerator() {
+        if (workerId == null) {
+            throw new IllegalStateException(
+                    "order.id.worker-id must be set to a value unique per instance (ORDER_WORKER_ID, 0-1023)");
+        }
+        return new SnowflakeOrderIdGenerator(workerId);
+    }
+
+    /**
+     * Fills and deduplicates legacy order numbers. As a script initializer it runs before the JPA
+     * schema update, which would otherwise fail or skip the unique order_id index.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "order.id.legacy-backfill.enabled", havingValue = "true", matchIfMissing = true)
+    public DataSourceScriptDatabaseInitializer orderIdBackfillInitializer(DataSource dataSource) {
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setSchemaLocations(List.of("classpath:db/order-id-backfill.sql"));
+        settings.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        settings.setMode(DatabaseInitializationMode.ALWAYS);
+        return new DataSourceScriptDatabaseInitializer(dataSource, settings);
+    }
+}
@@ -12,6 +12,8 @@ public class RabbitConfig {
     public static final String ORDER_EXCHANGE = "order.exchange";
     public static final String ORDER_CANCELED_QUEUE = "order.canceled.queue";
     public static final String ORDER_CANCELED_ROUTING_KEY = "order.canceled";
+    public static final String ORDER_CREATED_ROUTING_KEY = "order.created";
+    public static final String ORDER_STATUS_CHANGED_ROUTING_KEY = "order.status.changed";
 
     @Bean
     public TopicExchange orderExchange() {
@@ -36,7 +38,7 @@ public class RabbitConfig {
     }
 
     @Bean
-    public AmqpTemplate amqpTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate amqpTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(jsonMessageConverter());
         return rabbitTemplate;
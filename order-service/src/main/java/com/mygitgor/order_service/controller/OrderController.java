@@ -1,19 +1,31 @@
 package com.mygitgor.order_service.controller;
 
-import com.mygitgor.order_service.client.PaymentClient;
 import com.mygitgor.order_service.config.JwtUtils;
 import com.mygitgor.order_service.domain.OrderStatus;
 import com.mygitgor.order_service.dto.*;
-import com.mygitgor.order_service.dto.clientDto.PaymentOrderDto;
-import com.mygitgor.order_service.service.OrderEventService;
+import com.mygitgor.order_service.service.CheckoutIdempotencyService;
+import com.mygitgor.order_service.service.CheckoutPaymentService;
+import com.mygitgor.order_service.service.OrderExportService;
 import com.mygitgor.order_service.service.OrderService;
+import com.mygitgor.order_service.service.ReservationConfirmationRelay;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -23,64 +35,255 @@ import java.util.UUID;
 @RequestMapping("/api/orders")
 public class OrderController {
     private final OrderService orderService;
-    private final PaymentClient paymentClient;
-    private final OrderEventService orderEventService;
+    private final CheckoutPaymentService checkoutPaymentService;
+    private final CheckoutIdempotencyService idempotencyService;
+    private final OrderExportService orderExportService;
+    private final ReservationConfirmationRelay reservationConfirmationRelay;
     private final JwtUtils jwtUtils;
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String ASYNC_CHECKOUT_KEY_PREFIX = "async:";
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    @Value("${order.export.timeout:10m}")
+    private Duration exportTimeout;
+
     @PostMapping("/create")
     public ResponseEntity<PaymentLinkResponse> createOrderHandler(@RequestBody CreateOrderRequest request,
                                                                   @RequestParam PaymentMethod paymentMethod,
-                                                                  @RequestHeader("Authorization") String jwt
+                                                                  @RequestHeader("Authorization") String jwt,
+                                                                  @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+                                                                  String idempotencyKey
     ) {
+        String userId = null;
+        UUID leaseOwner = null;
+        boolean ordersCreated = false;
         try {
-            String userId = jwtUtils.extractUserId(jwt);
+            userId = jwtUtils.extractUserId(jwt);
+
+            if (idempotencyKey != null) {
+                Optional<ResponseEntity<PaymentLinkResponse>> stored =
+                        idempotencyService.findResponse(userId, idempotencyKey, PaymentLinkResponse.class);
+                if (stored.isPresent()) {
+                    log.info("Replaying stored checkout response for idempotency key: {}", idempotencyKey);
+                    return stored.get();
+                }
+                Optional<UUID> claim = idempotencyService.claim(userId, idempotencyKey);
+                if (claim.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT)
+                            .body(PaymentLinkResponse.error("Checkout with this idempotency key is already in progress"));
+                }
+                leaseOwner = claim.get();
+            }
 
             Set<OrderDto> orders = orderService.createOrder(userId, request);
+            ordersCreated = true;
 
-            PaymentOrderDto paymentOrder = paymentClient.createPaymentOrder(userId, orders, paymentMethod);
-            PaymentLinkResponse paymentLink = createPaymentLink(userId, paymentOrder, paymentMethod);
-            return new ResponseEntity<>(paymentLink, HttpStatus.OK);
+            PaymentLinkResponse paymentLink = checkoutPaymentService.createPaymentLink(userId, orders, paymentMethod);
+            return respond(leaseOwner, userId, idempotencyKey, true, HttpStatus.OK, paymentLink);
 
         } catch (IllegalArgumentException e) {
             log.error("Validation error in create order: {}", e.getMessage());
-            return ResponseEntity.badRequest()
-                    .body(PaymentLinkResponse.builder()
+            return respond(leaseOwner, userId, idempotencyKey, ordersCreated, HttpStatus.BAD_REQUEST,
+                    PaymentLinkResponse.builder()
                             .error(e.getMessage())
                             .build());
         } catch (Exception e) {
             log.error("Error creating order: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(PaymentLinkResponse.builder()
+            return respond(leaseOwner, userId, idempotencyKey, ordersCreated, HttpStatus.INTERNAL_SERVER_ERROR,
+                    PaymentLinkResponse.builder()
                             .error("Failed to create order: " + e.getMessage())
                             .build());
         }
 
     }
 
-    private PaymentLinkResponse createPaymentLink(String userId, PaymentOrderDto paymentOrder,
-                                                  PaymentMethod paymentMethod) {
-        return switch (paymentMethod) {
-            case PAYPAL -> paymentClient.createPaypalPaymentLink(userId, paymentOrder);
-            case STRIPE -> paymentClient.createStripePaymentLink(userId, paymentOrder);
-            default -> throw new IllegalArgumentException("Unsupported payment method: " + paymentMethod);
-        };
+    private ResponseEntity<PaymentLinkResponse> respond(UUID leaseOwner, String userId, String idempotencyKey,
+                                                        boolean ordersCreated, HttpStatus status,
+                                                        PaymentLinkResponse body) {
+        if (leaseOwner != null) {
+            if (ordersCreated) {
+                idempotencyService.complete(userId, idempotencyKey, leaseOwner, status, body);
+            } else {
+                idempotencyService.release(userId, idempotencyKey, leaseOwner);
+            }
+        }
+        return ResponseEntity.status(status).body(body);
     }
 
+    @PostMapping("/checkout")
+    public ResponseEntity<CheckoutStatusDto> checkoutHandler(@RequestBody CreateOrderRequest request,
+                                                             @RequestParam PaymentMethod paymentMethod,
+                                                             @RequestHeader("Authorization") String jwt,
+                                                             @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+                                                             String idempotencyKey
+    ) {
+        String userId = null;
+        String checkoutKey = idempotencyKey != null ? ASYNC_CHECKOUT_KEY_PREFIX + idempotencyKey : null;
+        UUID leaseOwner = null;
+        boolean ordersCreated = false;
+        try {
+            userId = jwtUtils.extractUserId(jwt);
+
+            if (checkoutKey != null) {
+                Optional<ResponseEntity<CheckoutStatusDto>> stored =
+                        idempotencyService.findResponse(userId, checkoutKey, CheckoutStatusDto.class);
+                if (stored.isPresent()) {
+                    log.info("Replaying stored checkout response for idempotency key: {}", idempotencyKey);
+                    return stored.get();
+                }
+                Optional<UUID> claim = idempotencyService.claim(userId, checkoutKey);
+                if (claim.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT)
+                            .body(CheckoutStatusDto.builder()
+                                    .error("Checkout with this idempotency key is already in progress")
+                                    .build());
+                }
+                leaseOwner = claim.get();
+            }
+
+            Set<OrderDto> orders = orderService.createOrder(userId, request);
+            ordersCreated = true;
+
+            CheckoutStatusDto checkout = checkoutPaymentService.startCheckout(userId, orders, paymentMethod);
+            return respondToCheckout(leaseOwner, userId, checkoutKey, true, HttpStatus.ACCEPTED, checkout);
+
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error in checkout: {}", e.getMessage());
+            return respondToCheckout(leaseOwner, userId, checkoutKey, ordersCreated, HttpStatus.BAD_REQUEST,
+                    CheckoutStatusDto.builder()
+                            .error(e.getMessage())
+                            .build());
+        } catch (Exception e) {
+            log.error("Error starting checkout: {}", e.getMessage(), e);
+            return respondToCheckout(leaseOwner, userId, checkoutKey, ordersCreated, HttpStatus.INTERNAL_SERVER_ERROR,
+                    CheckoutStatusDto.builder()
+                            .error("Failed to create order: " + e.getMessage())
+                            .build());
+        }
+    }
+
+    private ResponseEntity<CheckoutStatusDto> respondToCheckout(UUID leaseOwner, String userId, String checkoutKey,
+                                                                boolean ordersCreated, HttpStatus status,
+                                                                CheckoutStatusDto body) {
+        if (leaseOwner != null) {
+            if (ordersCreated) {
+                idempotencyService.complete(userId, checkoutKey, leaseOwner, status, body);
+            } else {
+                idempotencyService.release(userId, checkoutKey, leaseOwner);
+            }
+        }
+        return ResponseEntity.status(status).body(body);
+    }
+
+    @GetMapping("/checkout/{checkoutId}")
+    public ResponseEntity<CheckoutStatusDto> getCheckoutStatus(@PathVariable String checkoutId,
+                                                               @RequestHeader("Authorization") String jwt
+    ) {
+        try {
+            String userId = jwtUtils.extractUserId(jwt);
+            CheckoutStatusDto checkout = checkoutPaymentService.getCheckout(UUID.fromString(checkoutId), userId);
+            return ResponseEntity.ok(checkout);
+        } catch (Exception e) {
+            log.error("Error retrieving checkout {}: {}", checkoutId, e.getMessage());
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @PostMapping("/reservations/lookup")
+    public ResponseEntity<List<UUID>> findReservationsWithOrders(@RequestBody List<UUID> reservationIds) {
+        try {
+            return ResponseEntity.ok(reservationConfirmationRelay.findReservationsWithOrders(reservationIds));
+        } catch (Exception e) {
+            log.error("Error looking up reservations {}: {}", reservationIds, e.getMessage());
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
 
     @GetMapping("/seller/{sellerId}")
-    public ResponseEntity<List<OrderDto>> getSellerOrders(@PathVariable String sellerId,
-                                                          @RequestParam(required = false) OrderStatus status
+    public ResponseEntity<CursorPage<OrderSummaryDto>> getSellerOrders(@PathVariable String sellerId,
+                                                                @RequestParam(required = false) OrderStatus status,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer size
     ) {
         try {
             log.debug("Retrieving orders for seller: {}", sellerId);
-            List<OrderDto> orders = orderService.getSellerOrders(UUID.fromString(sellerId), status);
+            CursorPage<OrderSummaryDto> orders = orderService.getSellerOrders(UUID.fromString(sellerId), status, cursor, size);
             return ResponseEntity.ok(orders);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid order listing request for seller {}: {}", sellerId, e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             log.error("Error retrieving orders for seller {}: {}", sellerId, e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @GetMapping(value = "/seller/{sellerId}/export", produces = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportSellerOrders(@PathVariable String sellerId,
+                                                                    @RequestParam(required = false) OrderStatus status,
+                                                                    HttpServletRequest servletRequest
+    ) {
+        UUID seller;
+        try {
+            seller = UUID.fromString(sellerId);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid seller id for export: {}", sellerId);
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        // Exports can run far longer than regular async requests, so only this stream gets the long timeout.
+        AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(servletRequest).getAsyncWebRequest();
+        if (asyncRequest != null) {
+            asyncRequest.setTimeout(exportTimeout.toMillis());
+        }
+
+        log.info("Streaming order export for seller: {}", sellerId);
+        StreamingResponseBody body = out -> orderExportService.exportSellerOrders(seller, status, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders-" + sellerId + ".ndjson\"")
+                .body(body);
+    }
+
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<CursorPage<OrderSummaryDto>> getUserOrders(@PathVariable String userId,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(required = false) Integer size
+    ) {
+        try {
+            log.debug("Retrieving order history for user: {}", userId);
+            CursorPage<OrderSummaryDto> orders = orderService.usersOrderHistory(UUID.fromString(userId), cursor, size);
+            return ResponseEntity.ok(orders);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid order history request for user {}: {}", userId, e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("Error retrieving orders for user {}: {}", userId, e.getMessage());
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PatchMapping("/status/bulk")
+    public ResponseEntity<BulkOrderStatusUpdateResponse> updateOrderStatuses(
+            @Valid @RequestBody BulkOrderStatusUpdateRequest request) {
+        try {
+            log.info("Bulk updating {} orders to status {}", request.getOrderIds().size(), request.getStatus());
+            BulkOrderStatusUpdateResponse response = orderService.updateOrderStatuses(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid bulk status update: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(BulkOrderStatusUpdateResponse.builder()
+                            .status(request.getStatus())
+                            .error(e.getMessage())
+                            .build());
+        } catch (Exception e) {
+            log.error("Error bulk updating order status: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @PatchMapping("/{orderId}/status")
     public ResponseEntity<OrderDto> updateOrderStatus(@PathVariable String orderId,
                                                       @RequestBody UpdateOrderStatusRequest request) {
@@ -88,6 +291,12 @@ public class OrderController {
             log.info("Updating order {} status to {}", orderId, request.getStatus());
             OrderDto order = orderService.updateOrderStatus(UUID.fromString(orderId), request.getStatus());
             return ResponseEntity.ok(order);
+        } catch (EntityNotFoundException e) {
+            log.error("Order {} not found for status update", orderId);
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalStateException e) {
+            log.error("Rejected status update for order {}: {}", orderId, e.getMessage());
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
         } catch (Exception e) {
             log.error("Error updating order {} status: {}", orderId, e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -105,6 +314,17 @@ public class OrderController {
         }
     }
 
+    @GetMapping("/number/{orderId}")
+    public ResponseEntity<OrderDto> getOrderByOrderId(@PathVariable String orderId) {
+        try {
+            OrderDto order = orderService.findOrderByOrderId(orderId);
+            return ResponseEntity.ok(order);
+        } catch (Exception e) {
+            log.error("Error retrieving order {}: {}", orderId, e.getMessage());
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
     @PutMapping("/{orderId}/cancel")
     public ResponseEntity<OrderDto> cancelOrder(@PathVariable String orderId,
                                                 @RequestHeader("Authorization") String jwt
@@ -112,8 +332,6 @@ public class OrderController {
         try {
             String userId = jwtUtils.extractUserId(jwt);
             OrderDto canceledOrder = orderService.cancelOrder(UUID.fromString(orderId),UUID.fromString(userId));
-
-            orderEventService.sendOrderCanceledEvent(canceledOrder);
             return ResponseEntity.ok(canceledOrder);
         } catch (Exception e) {
             log.error("Error canceling order {}: {}", orderId, e.getMessage());
@@ -0,0 +1,53 @@
+package com.mygitgor.order_service.domain;
+
+import com.mygitgor.order_service.dto.PaymentMethod;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "checkouts", indexes = @Index(name = "idx_checkouts_status_created_at", columnList = "status, created_at"))
+@ToString(callSuper = true, exclude = "orderIds")
+@EqualsAndHashCode(callSuper = true, exclude = "orderIds")
+public class Checkout extends BaseEntity {
+    @Column(nullable = false)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    private PaymentMethod paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    private CheckoutStatus status;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "checkout_orders", joinColumns = @JoinColumn(name = "checkout_id"))
+    @Column(name = "order_id")
+    private Set<UUID> orderIds = new HashSet<>();
+
+    private String paymentLinkUrl;
+    private String paymentLinkId;
+    private LocalDateTime paymentLinkExpiresAt;
+    private String error;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static Checkout start(String userId, PaymentMethod paymentMethod, Set<UUID> orderIds) {
+        Checkout checkout = new Checkout();
+        checkout.setUserId(userId);
+        checkout.setPaymentMethod(paymentMethod);
+        checkout.setStatus(CheckoutStatus.PROCESSING);
+        checkout.setOrderIds(new HashSet<>(orderIds));
+        checkout.setCreatedAt(LocalDateTime.now());
+        checkout.setUpdatedAt(checkout.getCreatedAt());
+        return checkout;
+    }
+}
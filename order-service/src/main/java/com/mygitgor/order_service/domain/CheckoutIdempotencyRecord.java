@@ -0,0 +1,63 @@
+package com.mygitgor.order_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "checkout_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_checkout_idempotency_user_key",
+                columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_checkout_idempotency_expires_at", columnList = "expires_at"))
+@ToString(callSuper = true, exclude = "responseBody")
+@EqualsAndHashCode(callSuper = true)
+public class CheckoutIdempotencyRecord extends BaseEntity {
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private Integer responseStatus;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private LocalDateTime leaseExpiresAt;
+    private UUID leaseOwner;
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    public static CheckoutIdempotencyRecord claim(String userId, String idempotencyKey,
+                                                  LocalDateTime expiresAt, UUID leaseOwner,
+                                                  LocalDateTime leaseExpiresAt) {
+        CheckoutIdempotencyRecord record = new CheckoutIdempotencyRecord();
+        record.setUserId(userId);
+        record.setIdempotencyKey(idempotencyKey);
+        record.setStatus(Status.IN_PROGRESS);
+        record.setCreatedAt(LocalDateTime.now());
+        record.setExpiresAt(expiresAt);
+        record.setLeaseOwner(leaseOwner);
+        record.setLeaseExpiresAt(leaseExpiresAt);
+        return record;
+    }
+
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.isBefore(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,7 @@
+package com.mygitgor.order_service.domain;
+
+public enum CheckoutStatus {
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
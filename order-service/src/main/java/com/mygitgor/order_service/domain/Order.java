@@ -2,6 +2,7 @@ package com.mygitgor.order_service.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -14,15 +15,22 @@ import java.util.List;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "uk_orders_order_id", columnList = "order_id", unique = true),
+        @Index(name = "idx_orders_user_date", columnList = "user_id, order_date, id"),
+        @Index(name = "idx_orders_seller_date", columnList = "seller_id, order_date, id"),
+        @Index(name = "idx_orders_seller_status_date", columnList = "seller_id, order_status, order_date, id")
+})
 @ToString(callSuper = true, exclude = "orderItems")
 @EqualsAndHashCode(callSuper = true,exclude = "orderItems")
 public class Order extends BaseEntity {
+    @Column(nullable = false, updatable = false, length = 20)
     private String orderId;
 
     private String userId;
     private UUID sellerId;
 
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems = new ArrayList<>();
 
@@ -58,9 +66,6 @@ public class Order extends BaseEntity {
         if (this.deliverDate == null) {
             this.deliverDate = this.orderDate.plusDays(7);
         }
-        if (this.orderId == null) {
-            this.orderId = "ORD_" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        }
     }
 
     public void addOrderItem(OrderItem orderItem) {
@@ -89,8 +94,9 @@ public class Order extends BaseEntity {
         return calculateTotalMrpPrice() - calculateTotalPrice();
     }
 
-    public static Order create(String userId, UUID addressId, UUID sellerId) {
+    public static Order create(String orderId, String userId, UUID addressId, UUID sellerId) {
         Order order = new Order();
+        order.setOrderId(orderId);
         order.setUserId(userId);
         order.setAddressId(addressId);
         order.setSellerId(sellerId);
@@ -1,5 +1,6 @@
 package com.mygitgor.order_service.domain;
 
+import com.mygitgor.order_service.checkout.CheckoutContext;
 import com.mygitgor.order_service.dto.clientDto.CartItemDto;
 import com.mygitgor.order_service.dto.clientDto.ProductDto;
 import jakarta.persistence.*;
@@ -62,6 +63,10 @@ public class OrderItem extends BaseEntity{
         return orderItem;
     }
 
+    public static OrderItem createFromCartItem(CartItemDto cartItem, CheckoutContext context) {
+        return createFromCartItem(cartItem, context.getProduct(cartItem.getProductId()));
+    }
+
     public void validate() {
         if (quantity == null || quantity <= 0) {
             throw new IllegalArgumentException("Quantity must be greater than zero");
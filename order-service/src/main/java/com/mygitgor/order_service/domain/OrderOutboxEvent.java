@@ -0,0 +1,73 @@
+package com.mygitgor.order_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "order_outbox", indexes = {
+        @Index(name = "idx_order_outbox_unpublished", columnList = "published_at, next_attempt_at"),
+        @Index(name = "idx_order_outbox_aggregate", columnList = "aggregate_id, created_at")
+})
+@ToString(callSuper = true, exclude = "payload")
+@EqualsAndHashCode(callSuper = true)
+public class OrderOutboxEvent extends BaseEntity {
+    @Column(nullable = false)
+    private UUID aggregateId;
+
+    @Column(nullable = false)
+    private String routingKey;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime deadLetteredAt;
+
+    private Integer attempts = 0;
+    private String lastError;
+
+    public static OrderOutboxEvent create(UUID aggregateId, String routingKey, String eventType, String payload) {
+        OrderOutboxEvent event = new OrderOutboxEvent();
+        event.setAggregateId(aggregateId);
+        event.setRoutingKey(routingKey);
+        event.setEventType(eventType);
+        event.setPayload(payload);
+        event.setCreatedAt(LocalDateTime.now());
+        event.setNextAttemptAt(event.getCreatedAt());
+        return event;
+    }
+
+    public void claimUntil(LocalDateTime claimExpiresAt) {
+        this.nextAttemptAt = claimExpiresAt;
+    }
+
+    public void markPublished() {
+        this.publishedAt = LocalDateTime.now();
+    }
+
+    public void markFailed(String error, LocalDateTime nextAttemptAt) {
+        this.attempts = attempts == null ? 1 : attempts + 1;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markDeadLettered(String error) {
+        this.attempts = attempts == null ? 1 : attempts + 1;
+        this.lastError = error;
+        this.deadLetteredAt = LocalDateTime.now();
+    }
+}
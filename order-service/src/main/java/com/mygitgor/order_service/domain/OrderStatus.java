@@ -1,10 +1,28 @@
 package com.mygitgor.order_service.domain;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
     PENDING,
     PLACED,
     CONFIRMED,
     SHIPPED,
     DELIVERED,
-    CANCELED
+    CANCELED;
+
+    public Set<OrderStatus> allowedPredecessors() {
+        return switch (this) {
+            case PENDING -> EnumSet.noneOf(OrderStatus.class);
+            case PLACED -> EnumSet.of(PENDING);
+            case CONFIRMED -> EnumSet.of(PENDING, PLACED);
+            case SHIPPED -> EnumSet.of(CONFIRMED);
+            case DELIVERED -> EnumSet.of(SHIPPED);
+            case CANCELED -> EnumSet.of(PENDING, PLACED, CONFIRMED);
+        };
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return target.allowedPredecessors().contains(this);
+    }
 }
@@ -0,0 +1,81 @@
+package com.mygitgor.order_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Denormalized, item-free copy of an {@link Order} used to serve order listings.
+ * Written in the same transaction as the order it mirrors.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "order_summary", indexes = {
+        @Index(name = "idx_order_summary_user_date", columnList = "user_id, order_date, id"),
+        @Index(name = "idx_order_summary_seller_date", columnList = "seller_id, order_date, id"),
+        @Index(name = "idx_order_summary_seller_status_date", columnList = "seller_id, order_status, order_date, id")
+})
+@ToString
+@EqualsAndHashCode(of = "id")
+public class OrderSummary implements Persistable<UUID> {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 20)
+    private String orderId;
+
+    private String userId;
+    private UUID sellerId;
+    private UUID addressId;
+
+    private Integer totalMrpPrice;
+    private Integer totalSellingPrice;
+    private Integer discount;
+    private Integer totalItem;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    @Enumerated(EnumType.STRING)
+    private PaymentStatus paymentStatus;
+
+    private LocalDateTime orderDate;
+    private LocalDateTime deliverDate;
+
+    @Transient
+    private boolean isNew = true;
+
+    public static OrderSummary from(Order order) {
+        OrderSummary summary = new OrderSummary();
+        summary.setId(order.getId());
+        summary.setOrderId(order.getOrderId());
+        summary.setUserId(order.getUserId());
+        summary.setSellerId(order.getSellerId());
+        summary.setAddressId(order.getAddressId());
+        summary.setTotalMrpPrice(order.getTotalMrpPrice());
+        summary.setTotalSellingPrice(order.getTotalSellingPrice());
+        summary.setDiscount(order.getDiscount());
+        summary.setTotalItem(order.getTotalItem());
+        summary.setOrderStatus(order.getOrderStatus());
+        summary.setPaymentStatus(order.getPaymentStatus());
+        summary.setOrderDate(order.getOrderDate());
+        summary.setDeliverDate(order.getDeliverDate());
+        return summary;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
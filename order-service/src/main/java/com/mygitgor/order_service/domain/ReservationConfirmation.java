@@ -0,0 +1,59 @@
+package com.mygitgor.order_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "reservation_confirmations",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_reservation_confirmations_reservation",
+                columnNames = "reservation_id"),
+        indexes = @Index(name = "idx_reservation_confirmations_pending", columnList = "confirmed_at, next_attempt_at"))
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class ReservationConfirmation extends BaseEntity {
+    @Column(nullable = false)
+    private UUID reservationId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime confirmedAt;
+    private LocalDateTime rejectedAt;
+
+    private Integer attempts = 0;
+    private String lastError;
+
+    public static ReservationConfirmation pending(UUID reservationId) {
+        ReservationConfirmation confirmation = new ReservationConfirmation();
+        confirmation.setReservationId(reservationId);
+        confirmation.setCreatedAt(LocalDateTime.now());
+        confirmation.setNextAttemptAt(confirmation.getCreatedAt());
+        return confirmation;
+    }
+
+    public void markConfirmed() {
+        this.confirmedAt = LocalDateTime.now();
+    }
+
+    public void markRejected(String error) {
+        this.rejectedAt = LocalDateTime.now();
+        this.lastError = error;
+    }
+
+    public void markFailed(String error, LocalDateTime nextAttemptAt) {
+        this.attempts = attempts == null ? 1 : attempts + 1;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
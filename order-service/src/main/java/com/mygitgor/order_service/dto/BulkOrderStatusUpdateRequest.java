@@ -0,0 +1,19 @@
+package com.mygitgor.order_service.dto;
+
+import com.mygitgor.order_service.domain.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BulkOrderStatusUpdateRequest {
+    @NotEmpty
+    private List<UUID> orderIds;
+    @NotNull
+    private OrderStatus status;
+    @NotNull
+    private UUID sellerId;
+}
@@ -0,0 +1,24 @@
+package com.mygitgor.order_service.dto;
+
+import com.mygitgor.order_service.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderStatusUpdateResponse {
+    private OrderStatus status;
+    @Builder.Default
+    private List<UUID> updatedOrderIds = new ArrayList<>();
+    @Builder.Default
+    private List<UUID> rejectedOrderIds = new ArrayList<>();
+    private String error;
+}
@@ -0,0 +1,28 @@
+package com.mygitgor.order_service.dto;
+
+import com.mygitgor.order_service.domain.CheckoutStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckoutStatusDto {
+    private UUID checkoutId;
+    private CheckoutStatus status;
+    private PaymentMethod paymentMethod;
+    private Set<UUID> orderIds;
+    private String payment_link_url;
+    private String payment_link_id;
+    private LocalDateTime expiresAt;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
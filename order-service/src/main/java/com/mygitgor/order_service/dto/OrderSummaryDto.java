@@ -0,0 +1,35 @@
+package com.mygitgor.order_service.dto;
+
+import com.mygitgor.order_service.domain.OrderStatus;
+import com.mygitgor.order_service.domain.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDto {
+    private UUID id;
+    private String orderId;
+
+    private String userId;
+    private UUID sellerId;
+    private UUID addressId;
+
+    private Integer totalMrpPrice;
+    private Integer totalSellingPrice;
+    private Integer discount;
+    private Integer totalItem;
+
+    private OrderStatus orderStatus;
+    private PaymentStatus paymentStatus;
+
+    private LocalDateTime orderDate;
+    private LocalDateTime deliverDate;
+}
@@ -0,0 +1,25 @@
+package com.mygitgor.order_service.dto.clientDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationResponse {
+    private UUID reservationId;
+    private String referenceId;
+    private String status;
+    private LocalDateTime expiresAt;
+    @Builder.Default
+    private List<UUID> outOfStockProducts = new ArrayList<>();
+    private String error;
+}
@@ -0,0 +1,15 @@
+package com.mygitgor.order_service.dto.clientDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockValidationRequest {
+    private Map<UUID, Integer> productQuantities;
+}
@@ -0,0 +1,24 @@
+package com.mygitgor.order_service.dto.event;
+
+import com.mygitgor.order_service.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusChangedEvent implements Serializable {
+    private UUID orderId;
+    private UUID sellerId;
+    private String userId;
+    private OrderStatus previousStatus;
+    private OrderStatus status;
+    private LocalDateTime changedAt;
+}
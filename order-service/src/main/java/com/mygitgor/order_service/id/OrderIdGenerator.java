@@ -0,0 +1,9 @@
+package com.mygitgor.order_service.id;
+
+/**
+ * Produces customer-facing order numbers. Implementations must be thread-safe and return
+ * values that sort in creation order so inserts stay append-only in the unique index.
+ */
+public interface OrderIdGenerator {
+    String nextId();
+}
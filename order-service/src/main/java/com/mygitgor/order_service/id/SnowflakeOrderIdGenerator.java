@@ -0,0 +1,82 @@
+package com.mygitgor.order_service.id;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Snowflake-style generator: 41 bits of milliseconds since {@link #EPOCH}, 10 bits of worker id
+ * and a 12-bit per-millisecond sequence. The value is rendered as fixed-width base36 so the
+ * string form sorts the same way as the numeric one.
+ * <p>
+ * The generator never waits: after a small clock rollback or an exhausted sequence it keeps issuing
+ * ids from its last millisecond onwards, and fails fast once that runs more than
+ * {@link #MAX_CLOCK_DRIFT_MS} ahead of the wall clock.
+ */
+public class SnowflakeOrderIdGenerator implements OrderIdGenerator {
+    static final String PREFIX = "ORD_";
+    static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_CLOCK_DRIFT_MS = 5_000;
+    private static final int ENCODED_LENGTH = Long.toString(Long.MAX_VALUE, Character.MAX_RADIX).length();
+
+    private final long workerId;
+    private final Clock clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeOrderIdGenerator(long workerId) {
+        this(workerId, Clock.systemUTC());
+    }
+
+    SnowflakeOrderIdGenerator(long workerId, Clock clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException(
+                    String.format("Worker id must be between 0 and %d, got %d", MAX_WORKER_ID, workerId));
+        }
+        this.workerId = workerId;
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        return format(nextValue());
+    }
+
+    synchronized long nextValue() {
+        long now = clock.millis();
+        long drift = lastTimestamp - now;
+        if (drift > MAX_CLOCK_DRIFT_MS) {
+            throw new IllegalStateException(
+                    String.format("Clock is %d ms behind the last issued order id, refusing to generate one", drift));
+        }
+
+        long timestamp = Math.max(now, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp++;
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (WORKER_BITS + SEQUENCE_BITS))
+                | (workerId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    static String format(long value) {
+        String encoded = Long.toString(value, Character.MAX_RADIX).toUpperCase();
+        StringBuilder id = new StringBuilder(PREFIX.length() + ENCODED_LENGTH).append(PREFIX);
+        for (int i = encoded.length(); i < ENCODED_LENGTH; i++) {
+            id.append('0');
+        }
+        return id.append(encoded).toString();
+    }
+}
@@ -0,0 +1,20 @@
+package com.mygitgor.order_service.mapping;
+
+import com.mygitgor.order_service.domain.Checkout;
+import com.mygitgor.order_service.dto.CheckoutStatusDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring",
+        nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface CheckoutMapper {
+
+    @Mapping(target = "checkoutId", source = "id")
+    @Mapping(target = "payment_link_url", source = "paymentLinkUrl")
+    @Mapping(target = "payment_link_id", source = "paymentLinkId")
+    @Mapping(target = "expiresAt", source = "paymentLinkExpiresAt")
+    CheckoutStatusDto toCheckoutStatusDto(Checkout checkout);
+}
@@ -14,7 +14,6 @@ import java.util.Set;
 )
 public interface OrderItemMapper {
 
-    @Mapping(target = "order", ignore = true)
     OrderItemDto toOrderItemDto(OrderItem orderItem);
 
     @Mapping(target = "order", ignore = true)
@@ -0,0 +1,58 @@
+package com.mygitgor.order_service.repository;
+
+import com.mygitgor.order_service.domain.CheckoutIdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CheckoutIdempotencyRepository extends JpaRepository<CheckoutIdempotencyRecord, UUID> {
+    Optional<CheckoutIdempotencyRecord> findByUserIdAndIdempotencyKey(String userId, String idempotencyKey);
+
+    /**
+     * Takes over an in-progress claim whose lease was not renewed in time, e.g. after the holder crashed.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update CheckoutIdempotencyRecord r set r.leaseOwner = :leaseOwner, r.leaseExpiresAt = :leaseExpiresAt " +
+            "where r.id = :id and r.status = :inProgress " +
+            "and (r.leaseExpiresAt is null or r.leaseExpiresAt < :now)")
+    int takeOverExpiredLease(UUID id, CheckoutIdempotencyRecord.Status inProgress, LocalDateTime now,
+                             UUID leaseOwner, LocalDateTime leaseExpiresAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update CheckoutIdempotencyRecord r set r.leaseExpiresAt = :leaseExpiresAt " +
+            "where r.leaseOwner in :leaseOwners and r.status = :inProgress")
+    int renewLeases(Collection<UUID> leaseOwners, CheckoutIdempotencyRecord.Status inProgress,
+                    LocalDateTime leaseExpiresAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update CheckoutIdempotencyRecord r set r.status = :completed, r.responseStatus = :responseStatus, " +
+            "r.responseBody = :responseBody, r.leaseOwner = null, r.leaseExpiresAt = null " +
+            "where r.userId = :userId and r.idempotencyKey = :idempotencyKey " +
+            "and r.leaseOwner = :leaseOwner and r.status = :inProgress")
+    int complete(String userId, String idempotencyKey, UUID leaseOwner,
+                 CheckoutIdempotencyRecord.Status inProgress, CheckoutIdempotencyRecord.Status completed,
+                 Integer responseStatus, String responseBody);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from CheckoutIdempotencyRecord r " +
+            "where r.userId = :userId and r.idempotencyKey = :idempotencyKey " +
+            "and r.leaseOwner = :leaseOwner and r.status = :inProgress")
+    int release(String userId, String idempotencyKey, UUID leaseOwner, CheckoutIdempotencyRecord.Status inProgress);
+
+    @Transactional
+    @Modifying
+    @Query("delete from CheckoutIdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
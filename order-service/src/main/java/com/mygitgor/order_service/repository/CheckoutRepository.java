@@ -0,0 +1,37 @@
+package com.mygitgor.order_service.repository;
+
+import com.mygitgor.order_service.domain.Checkout;
+import com.mygitgor.order_service.domain.CheckoutStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface CheckoutRepository extends JpaRepository<Checkout, UUID> {
+
+    @Transactional
+    @Modifying
+    @Query("update Checkout c set c.status = :failed, c.error = :error, c.updatedAt = :now " +
+            "where c.status = :processing and c.createdAt < :before")
+    int failStale(CheckoutStatus processing, CheckoutStatus failed, String error,
+                  LocalDateTime before, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update Checkout c set c.status = :completed, c.paymentLinkUrl = :paymentLinkUrl, " +
+            "c.paymentLinkId = :paymentLinkId, c.paymentLinkExpiresAt = :paymentLinkExpiresAt, c.updatedAt = :now " +
+            "where c.id = :id and c.status = :processing")
+    int complete(UUID id, CheckoutStatus processing, CheckoutStatus completed, String paymentLinkUrl,
+                 String paymentLinkId, LocalDateTime paymentLinkExpiresAt, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update Checkout c set c.status = :failed, c.error = :error, c.updatedAt = :now " +
+            "where c.id = :id and c.status = :processing")
+    int fail(UUID id, CheckoutStatus processing, CheckoutStatus failed, String error, LocalDateTime now);
+}
@@ -0,0 +1,36 @@
+package com.mygitgor.order_service.repository;
+
+import com.mygitgor.order_service.domain.OrderOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, UUID> {
+
+    /**
+     * Only the oldest pending event of each order is due, so a later event never overtakes one that
+     * is still backing off.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OrderOutboxEvent e where e.publishedAt is null and e.deadLetteredAt is null " +
+            "and (e.nextAttemptAt is null or e.nextAttemptAt <= :now) " +
+            "and not exists (select p.id from OrderOutboxEvent p where p.aggregateId = e.aggregateId " +
+            "and p.publishedAt is null and p.deadLetteredAt is null " +
+            "and (p.createdAt < e.createdAt or (p.createdAt = e.createdAt and p.id < e.id))) " +
+            "order by e.createdAt")
+    List<OrderOutboxEvent> findDueForUpdate(LocalDateTime now, Pageable pageable);
+
+    long countByDeadLetteredAtIsNotNull();
+
+    @Modifying
+    @Query("delete from OrderOutboxEvent e where e.publishedAt < :before")
+    int deletePublishedBefore(LocalDateTime before);
+}
@@ -2,15 +2,83 @@ package com.mygitgor.order_service.repository;
 
 import com.mygitgor.order_service.domain.Order;
 import com.mygitgor.order_service.domain.OrderStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, UUID> {
-    List<Order> findByUserId(UUID userId);
-    List<Order>findBySellerId(UUID sellerId);
-    List<Order> findBySellerIdAndOrderStatus(UUID sellerId, OrderStatus orderStatus);
+    @EntityGraph(attributePaths = "orderItems")
+    Optional<Order> findWithItemsById(UUID id);
+
+    @EntityGraph(attributePaths = "orderItems")
+    Optional<Order> findByOrderId(String orderId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT o FROM Order o
+            WHERE o.sellerId = :sellerId
+              AND (:status IS NULL OR o.orderStatus = :status)
+            ORDER BY o.orderDate DESC, o.id DESC
+            """)
+    Stream<Order> streamBySellerId(@Param("sellerId") UUID sellerId, @Param("status") OrderStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT o.id AS id, o.sellerId AS sellerId, o.userId AS userId, o.orderStatus AS orderStatus,
+                   o.totalSellingPrice AS totalSellingPrice
+            FROM Order o
+            WHERE o.id IN :ids
+              AND o.sellerId = :sellerId
+            ORDER BY o.id
+            """)
+    List<OrderStatusRow> lockStatusRows(@Param("ids") Collection<UUID> ids, @Param("sellerId") UUID sellerId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT o.id AS id, o.sellerId AS sellerId, o.userId AS userId, o.orderStatus AS orderStatus,
+                   o.totalSellingPrice AS totalSellingPrice
+            FROM Order o
+            WHERE o.id = :id
+            """)
+    Optional<OrderStatusRow> lockStatusRow(@Param("id") UUID id);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE Order o
+            SET o.orderStatus = :status,
+                o.deliverDate = CASE WHEN :delivered = true THEN :now ELSE o.deliverDate END
+            WHERE o.id IN :ids AND o.orderStatus IN :from
+            """)
+    int updateStatus(@Param("ids") Collection<UUID> ids,
+                     @Param("from") Collection<OrderStatus> from,
+                     @Param("status") OrderStatus status,
+                     @Param("delivered") boolean delivered,
+                     @Param("now") LocalDateTime now);
+
+    interface OrderStatusRow {
+        UUID getId();
+        UUID getSellerId();
+        String getUserId();
+        OrderStatus getOrderStatus();
+        Integer getTotalSellingPrice();
+    }
 }
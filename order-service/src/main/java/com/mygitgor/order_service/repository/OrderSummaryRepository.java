@@ -0,0 +1,89 @@
+package com.mygitgor.order_service.repository;
+
+import com.mygitgor.order_service.domain.OrderStatus;
+import com.mygitgor.order_service.domain.OrderSummary;
+import com.mygitgor.order_service.dto.OrderSummaryDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, UUID> {
+    String SUMMARY_DTO = """
+            SELECT new com.mygitgor.order_service.dto.OrderSummaryDto(
+                s.id, s.orderId, s.userId, s.sellerId, s.addressId,
+                s.totalMrpPrice, s.totalSellingPrice, s.discount, s.totalItem,
+                s.orderStatus, s.paymentStatus, s.orderDate, s.deliverDate)
+            FROM OrderSummary s
+            """;
+
+    @Query(SUMMARY_DTO + """
+            WHERE s.userId = :userId
+            ORDER BY s.orderDate DESC, s.id DESC
+            """)
+    List<OrderSummaryDto> findFirstPageByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @Query(SUMMARY_DTO + """
+            WHERE s.userId = :userId
+              AND (s.orderDate < :orderDate OR (s.orderDate = :orderDate AND s.id < :id))
+            ORDER BY s.orderDate DESC, s.id DESC
+            """)
+    List<OrderSummaryDto> findPageByUserIdAfter(@Param("userId") String userId,
+                                                @Param("orderDate") LocalDateTime orderDate,
+                                                @Param("id") UUID id,
+                                                Pageable pageable);
+
+    @Query(SUMMARY_DTO + """
+            WHERE s.sellerId = :sellerId
+              AND (:status IS NULL OR s.orderStatus = :status)
+            ORDER BY s.orderDate DESC, s.id DESC
+            """)
+    List<OrderSummaryDto> findFirstPageBySellerId(@Param("sellerId") UUID sellerId,
+                                                  @Param("status") OrderStatus status,
+                                                  Pageable pageable);
+
+    @Query(SUMMARY_DTO + """
+            WHERE s.sellerId = :sellerId
+              AND (:status IS NULL OR s.orderStatus = :status)
+              AND (s.orderDate < :orderDate OR (s.orderDate = :orderDate AND s.id < :id))
+            ORDER BY s.orderDate DESC, s.id DESC
+            """)
+    List<OrderSummaryDto> findPageBySellerIdAfter(@Param("sellerId") UUID sellerId,
+                                                  @Param("status") OrderStatus status,
+                                                  @Param("orderDate") LocalDateTime orderDate,
+                                                  @Param("id") UUID id,
+                                                  Pageable pageable);
+
+    @Modifying
+    @Query("""
+            UPDATE OrderSummary s
+            SET s.orderStatus = :status,
+                s.deliverDate = CASE WHEN :delivered = true THEN :now ELSE s.deliverDate END
+            WHERE s.id IN :ids
+            """)
+    int updateStatus(@Param("ids") Collection<UUID> ids,
+                     @Param("status") OrderStatus status,
+                     @Param("delivered") boolean delivered,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO order_summary (id, order_id, user_id, seller_id, address_id,
+                                       total_mrp_price, total_selling_price, discount, total_item,
+                                       order_status, payment_status, order_date, deliver_date)
+            SELECT o.id, o.order_id, o.user_id, o.seller_id, o.address_id,
+                   o.total_mrp_price, o.total_selling_price, o.discount, o.total_item,
+                   o.order_status, o.payment_status, o.order_date, o.deliver_date
+            FROM orders o
+            WHERE NOT EXISTS (SELECT 1 FROM order_summary s WHERE s.id = o.id)
+            """, nativeQuery = true)
+    int backfillMissing();
+}
@@ -0,0 +1,38 @@
+package com.mygitgor.order_service.repository;
+
+import com.mygitgor.order_service.domain.ReservationConfirmation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ReservationConfirmationRepository extends JpaRepository<ReservationConfirmation, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select c from ReservationConfirmation c where c.confirmedAt is null and c.rejectedAt is null " +
+            "and c.nextAttemptAt <= :now order by c.nextAttemptAt")
+    List<ReservationConfirmation> findDueForUpdate(LocalDateTime now, Pageable pageable);
+
+    @Query("select c.reservationId from ReservationConfirmation c where c.reservationId in :reservationIds")
+    List<UUID> findReservationIdsIn(Collection<UUID> reservationIds);
+
+    @Transactional
+    @Modifying
+    @Query("update ReservationConfirmation c set c.confirmedAt = :now " +
+            "where c.reservationId = :reservationId and c.confirmedAt is null")
+    int markConfirmed(UUID reservationId, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ReservationConfirmation c where c.confirmedAt < :before")
+    int deleteConfirmedBefore(LocalDateTime before);
+}
@@ -0,0 +1,162 @@
+package com.mygitgor.order_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mygitgor.order_service.domain.CheckoutIdempotencyRecord;
+import com.mygitgor.order_service.repository.CheckoutIdempotencyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class CheckoutIdempotencyService {
+    private final CheckoutIdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Cache<String, ResponseEntity<?>> responses;
+    private final Set<UUID> activeLeases = ConcurrentHashMap.newKeySet();
+
+    public CheckoutIdempotencyService(CheckoutIdempotencyRepository idempotencyRepository,
+                                      ObjectMapper objectMapper,
+                                      @Value("${order.idempotency.ttl:24h}") Duration ttl,
+                                      @Value("${order.idempotency.lease:2m}") Duration lease,
+                                      @Value("${order.idempotency.cache.ttl:10m}") Duration cacheTtl,
+                                      @Value("${order.idempotency.cache.max-size:10000}") long cacheMaxSize) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheMaxSize)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Optional<ResponseEntity<T>> findResponse(String userId, String idempotencyKey, Class<T> bodyType) {
+        String cacheKey = cacheKey(userId, idempotencyKey);
+        ResponseEntity<?> cached = responses.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Optional.of((ResponseEntity<T>) cached);
+        }
+
+        return idempotencyRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                .filter(record -> record.getStatus() == CheckoutIdempotencyRecord.Status.COMPLETED)
+                .filter(record -> !record.isExpired())
+                .map(record -> {
+                    ResponseEntity<T> response = ResponseEntity
+                            .status(record.getResponseStatus())
+                            .body(readBody(record.getResponseBody(), bodyType));
+                    responses.put(cacheKey, response);
+                    return response;
+                });
+    }
+
+    /**
+     * Claims the key for this checkout. The returned lease owner must be passed to {@link #complete} or
+     * {@link #release}; the lease is renewed in the background until then, so only a claim whose holder
+     * died can be taken over by a replay.
+     */
+    public Optional<UUID> claim(String userId, String idempotencyKey) {
+        Optional<CheckoutIdempotencyRecord> existing =
+                idempotencyRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey);
+        LocalDateTime now = LocalDateTime.now();
+        UUID leaseOwner = UUID.randomUUID();
+        if (existing.isPresent()) {
+            CheckoutIdempotencyRecord record = existing.get();
+            if (!record.isExpired()) {
+                if (record.getStatus() == CheckoutIdempotencyRecord.Status.IN_PROGRESS
+                        && idempotencyRepository.takeOverExpiredLease(record.getId(),
+                        CheckoutIdempotencyRecord.Status.IN_PROGRESS, now, leaseOwner, now.plus(lease)) > 0) {
+                    log.warn("Took over abandoned checkout claim for idempotency key {}", idempotencyKey);
+                    activeLeases.add(leaseOwner);
+                    return Optional.of(leaseOwner);
+                }
+                return Optional.empty();
+            }
+            idempotencyRepository.delete(record);
+        }
+
+        try {
+            idempotencyRepository.saveAndFlush(CheckoutIdempotencyRecord.claim(
+                    userId, idempotencyKey, now.plus(ttl), leaseOwner, now.plus(lease)));
+            activeLeases.add(leaseOwner);
+            return Optional.of(leaseOwner);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Idempotency key {} was claimed concurrently", idempotencyKey);
+            return Optional.empty();
+        }
+    }
+
+    public void complete(String userId, String idempotencyKey, UUID leaseOwner,
+                         HttpStatus status, Object body) {
+        activeLeases.remove(leaseOwner);
+        int completed = idempotencyRepository.complete(userId, idempotencyKey, leaseOwner,
+                CheckoutIdempotencyRecord.Status.IN_PROGRESS, CheckoutIdempotencyRecord.Status.COMPLETED,
+                status.value(), writeBody(body));
+        if (completed == 0) {
+            log.warn("Lost checkout claim for idempotency key {} before completing it", idempotencyKey);
+            return;
+        }
+        responses.put(cacheKey(userId, idempotencyKey), ResponseEntity.status(status).body(body));
+    }
+
+    public void release(String userId, String idempotencyKey, UUID leaseOwner) {
+        activeLeases.remove(leaseOwner);
+        idempotencyRepository.release(userId, idempotencyKey, leaseOwner,
+                CheckoutIdempotencyRecord.Status.IN_PROGRESS);
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.lease-renew-interval-ms:30000}")
+    public void renewLeases() {
+        if (activeLeases.isEmpty()) {
+            return;
+        }
+        List<UUID> leaseOwners = List.copyOf(activeLeases);
+        int renewed = idempotencyRepository.renewLeases(leaseOwners,
+                CheckoutIdempotencyRecord.Status.IN_PROGRESS, LocalDateTime.now().plus(lease));
+        log.debug("Renewed {} of {} in-progress checkout claims", renewed, leaseOwners.size());
+    }
+
+    @Scheduled(cron = "${order.idempotency.cleanup-cron:0 0 * * * *}")
+    public void deleteExpiredKeys() {
+        int deleted = idempotencyRepository.deleteExpired(LocalDateTime.now());
+        log.info("Deleted {} expired idempotency keys", deleted);
+    }
+
+    private String cacheKey(String userId, String idempotencyKey) {
+        return userId + ":" + idempotencyKey;
+    }
+
+    private String writeBody(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize checkout response", e);
+        }
+    }
+
+    private <T> T readBody(String body, Class<T> bodyType) {
+        try {
+            return objectMapper.readValue(body, bodyType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read stored checkout response", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.mygitgor.order_service.service;
+
+import com.mygitgor.order_service.client.PaymentClient;
+import com.mygitgor.order_service.domain.Checkout;
+import com.mygitgor.order_service.domain.CheckoutStatus;
+import com.mygitgor.order_service.dto.CheckoutStatusDto;
+import com.mygitgor.order_service.dto.OrderDto;
+import com.mygitgor.order_service.dto.PaymentLinkResponse;
+import com.mygitgor.order_service.dto.PaymentMethod;
+import com.mygitgor.order_service.dto.clientDto.PaymentOrderDto;
+import com.mygitgor.order_service.mapping.CheckoutMapper;
+import com.mygitgor.order_service.repository.CheckoutRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CheckoutPaymentService {
+    private final PaymentClient paymentClient;
+    private final CheckoutRepository checkoutRepository;
+    private final CheckoutMapper checkoutMapper;
+    private final ThreadPoolTaskExecutor paymentLinkExecutor;
+
+    @Value("${order.checkout.stale-after:10m}")
+    private Duration staleAfter;
+
+    public PaymentLinkResponse createPaymentLink(String userId, Set<OrderDto> orders, PaymentMethod paymentMethod) {
+        PaymentOrderDto paymentOrder = paymentClient.createPaymentOrder(userId, orders, paymentMethod);
+        return switch (paymentMethod) {
+            case PAYPAL -> paymentClient.createPaypalPaymentLink(userId, paymentOrder);
+            case STRIPE -> paymentClient.createStripePaymentLink(userId, paymentOrder);
+            default -> throw new IllegalArgumentException("Unsupported payment method: " + paymentMethod);
+        };
+    }
+
+    public CheckoutStatusDto startCheckout(String userId, Set<OrderDto> orders, PaymentMethod paymentMethod) {
+        Set<UUID> orderIds = orders.stream()
+                .map(OrderDto::getId)
+                .collect(Collectors.toSet());
+        Checkout checkout = checkoutRepository.save(Checkout.start(userId, paymentMethod, orderIds));
+        UUID checkoutId = checkout.getId();
+
+        try {
+            CompletableFuture
+                    .supplyAsync(() -> createPaymentLink(userId, orders, paymentMethod), paymentLinkExecutor)
+                    .whenComplete((paymentLink, error) -> finishCheckout(checkoutId, paymentLink, error));
+        } catch (RejectedExecutionException e) {
+            log.warn("Payment link pool is saturated, failing checkout {}", checkoutId);
+            finishCheckout(checkoutId, null, e);
+            return getCheckout(checkoutId, userId);
+        }
+
+        log.info("Started checkout {} for user {} with {} orders", checkoutId, userId, orderIds.size());
+        return checkoutMapper.toCheckoutStatusDto(checkout);
+    }
+
+    public CheckoutStatusDto getCheckout(UUID checkoutId, String userId) {
+        Checkout checkout = checkoutRepository.findById(checkoutId)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new EntityNotFoundException(
+                        String.format("checkout with id '%s' not found", checkoutId)));
+        return checkoutMapper.toCheckoutStatusDto(checkout);
+    }
+
+    @Scheduled(fixedDelayString = "${order.checkout.stale-sweep-interval-ms:60000}")
+    public void failStaleCheckouts() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = checkoutRepository.failStale(CheckoutStatus.PROCESSING, CheckoutStatus.FAILED,
+                "Payment link was not created in time", now.minus(staleAfter), now);
+        if (failed > 0) {
+            log.warn("Marked {} stale checkouts as failed", failed);
+        }
+    }
+
+    private void finishCheckout(UUID checkoutId, PaymentLinkResponse paymentLink, Throwable error) {
+        try {
+            String failure = null;
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                failure = "Failed to create payment link: " + cause.getMessage();
+            } else if (paymentLink == null || paymentLink.getError() != null) {
+                failure = paymentLink != null ? paymentLink.getError() : "Empty payment link response";
+            }
+
+            // Conditional on PROCESSING so a late result never overwrites a checkout the stale sweep already failed.
+            LocalDateTime now = LocalDateTime.now();
+            int updated = failure != null
+                    ? checkoutRepository.fail(checkoutId, CheckoutStatus.PROCESSING, CheckoutStatus.FAILED, failure, now)
+                    : checkoutRepository.complete(checkoutId, CheckoutStatus.PROCESSING, CheckoutStatus.COMPLETED,
+                    paymentLink.getPayment_link_url(), paymentLink.getPayment_link_id(),
+                    paymentLink.getExpiresAt(), now);
+
+            if (updated == 0) {
+                log.warn("Checkout {} is no longer processing, dropping late result (payment link: {})",
+                        checkoutId, paymentLink != null ? paymentLink.getPayment_link_id() : null);
+            } else if (failure != null) {
+                log.error("Checkout {} failed: {}", checkoutId, failure);
+            } else {
+                log.info("Checkout {} completed", checkoutId);
+            }
+        } catch (Exception e) {
+            log.error("Failed to record result of checkout {}: {}", checkoutId, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.mygitgor.order_service.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Retry delay that doubles with every failed attempt up to a ceiling.
+ */
+public class ExponentialBackoff {
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+
+    public ExponentialBackoff(Duration initialDelay, Duration maxDelay) {
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    public Duration delay(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        long millis = initialDelay.toMillis() << exponent;
+        if (millis <= 0 || millis > maxDelay.toMillis()) {
+            return maxDelay;
+        }
+        return Duration.ofMillis(millis);
+    }
+
+    public LocalDateTime nextAttemptAt(int attempts) {
+        return LocalDateTime.now().plus(delay(attempts));
+    }
+}
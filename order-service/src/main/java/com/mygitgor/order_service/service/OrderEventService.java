@@ -1,22 +1,32 @@
 package com.mygitgor.order_service.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mygitgor.order_service.config.RabbitConfig;
+import com.mygitgor.order_service.domain.OrderOutboxEvent;
 import com.mygitgor.order_service.dto.event.OrderCanceledEvent;
 import com.mygitgor.order_service.dto.OrderDto;
 import com.mygitgor.order_service.dto.event.OrderCreatedEvent;
+import com.mygitgor.order_service.dto.event.OrderStatusChangedEvent;
+import com.mygitgor.order_service.repository.OrderOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderEventService {
-    private final AmqpTemplate amqpTemplate;
+    private final OrderOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendOrderCanceledEvent(OrderDto canceledOrder) {
         OrderCanceledEvent event = OrderCanceledEvent.builder()
                 .orderId(canceledOrder.getId())
@@ -25,22 +35,45 @@ public class OrderEventService {
                 .canceledAt(LocalDateTime.now())
                 .build();
 
-        amqpTemplate.convertAndSend(
-                "order.exchange",
-                "order.canceled",
-                event
-        );
+        enqueue(canceledOrder.getId(), RabbitConfig.ORDER_CANCELED_ROUTING_KEY, event);
+        log.info("Queued order canceled event for seller: {}", canceledOrder.getSellerId());
+    }
 
-        log.info("Sent order canceled event for seller: {}", canceledOrder.getSellerId());
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendOrderCanceledEvents(List<OrderCanceledEvent> events) {
+        List<OrderOutboxEvent> outboxEvents = events.stream()
+                .map(event -> toOutboxEvent(event.getOrderId(), RabbitConfig.ORDER_CANCELED_ROUTING_KEY, event))
+                .toList();
+        outboxRepository.saveAll(outboxEvents);
+        log.info("Queued {} order canceled events", outboxEvents.size());
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendOrderCreatedEvent(OrderCreatedEvent event) {
-        amqpTemplate.convertAndSend(
-                "order.exchange",
-                "order.created",
-                event
-        );
-        log.info("Sent order created event for order: {}, seller: {}",
+        enqueue(event.getOrderId(), RabbitConfig.ORDER_CREATED_ROUTING_KEY, event);
+        log.info("Queued order created event for order: {}, seller: {}",
                 event.getOrderId(), event.getSellerId());
     }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendOrderStatusChangedEvents(List<OrderStatusChangedEvent> events) {
+        List<OrderOutboxEvent> outboxEvents = events.stream()
+                .map(event -> toOutboxEvent(event.getOrderId(), RabbitConfig.ORDER_STATUS_CHANGED_ROUTING_KEY, event))
+                .toList();
+        outboxRepository.saveAll(outboxEvents);
+        log.info("Queued {} order status changed events", outboxEvents.size());
+    }
+
+    private void enqueue(UUID aggregateId, String routingKey, Object event) {
+        outboxRepository.save(toOutboxEvent(aggregateId, routingKey, event));
+    }
+
+    private OrderOutboxEvent toOutboxEvent(UUID aggregateId, String routingKey, Object event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            return OrderOutboxEvent.create(aggregateId, routingKey, event.getClass().getName(), payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + routingKey + " event for " + aggregateId, e);
+        }
+    }
 }
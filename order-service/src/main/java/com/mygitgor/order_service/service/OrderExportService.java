@@ -0,0 +1,82 @@
+package com.mygitgor.order_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mygitgor.order_service.domain.Order;
+import com.mygitgor.order_service.domain.OrderStatus;
+import com.mygitgor.order_service.mapping.OrderMapper;
+import com.mygitgor.order_service.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+    private static final byte NEWLINE = '\n';
+
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Value("${order.export.chunk-size:50}")
+    private int chunkSize;
+
+    /**
+     * Writes the seller's orders to {@code out} as NDJSON, one {@code OrderDto} per line.
+     * Orders are read from a database cursor and written in chunks; the persistence
+     * context is cleared after each chunk so memory stays flat however many orders exist.
+     */
+    @Transactional(readOnly = true)
+    public long exportSellerOrders(UUID sellerId, OrderStatus status, OutputStream out) {
+        long exported = 0;
+        List<Order> chunk = new ArrayList<>(chunkSize);
+
+        try (Stream<Order> orders = orderRepository.streamBySellerId(sellerId, status)) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    exported += writeChunk(chunk, out);
+                }
+            }
+            exported += writeChunk(chunk, out);
+        }
+
+        log.info("Exported {} orders for seller {}", exported, sellerId);
+        return exported;
+    }
+
+    private int writeChunk(List<Order> chunk, OutputStream out) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        try {
+            for (Order order : chunk) {
+                out.write(objectMapper.writeValueAsBytes(orderMapper.toOrderDto(order)));
+                out.write(NEWLINE);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write order export", e);
+        }
+
+        int written = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return written;
+    }
+}
@@ -0,0 +1,137 @@
+package com.mygitgor.order_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mygitgor.order_service.config.RabbitConfig;
+import com.mygitgor.order_service.domain.OrderOutboxEvent;
+import com.mygitgor.order_service.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxRelay {
+    private final OrderOutboxRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${order.outbox.relay.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${order.outbox.relay.max-backoff:5m}")
+    private Duration maxBackoff;
+
+    @Value("${order.outbox.relay.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Value("${order.outbox.relay.claim-timeout:1m}")
+    private Duration claimTimeout;
+
+    @Value("${order.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("order.outbox.dead_lettered", outboxRepository, OrderOutboxRepository::countByDeadLetteredAtIsNotNull)
+                .description("Outbox events that can never be published and need manual attention")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Transient failures are retried with exponential backoff and no attempt limit. Only events whose
+     * payload cannot be read are dead-lettered, and each failure is confined to its own event.
+     * Due events are claimed in a short transaction and published outside it, so no outbox row stays
+     * locked while waiting for publisher confirms.
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.relay.interval-ms:500}")
+    public void relay() {
+        List<OrderOutboxEvent> batch = transactionTemplate.execute(status -> claimDueEvents());
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        ExponentialBackoff backoff = new ExponentialBackoff(initialBackoff, maxBackoff);
+        List<OrderOutboxEvent> sent = new ArrayList<>();
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (OrderOutboxEvent event : batch) {
+                    Object payload;
+                    try {
+                        payload = readEvent(event);
+                    } catch (IllegalStateException e) {
+                        log.error("Dead-lettering outbox event {}: {}", event.getId(), e.getMessage());
+                        event.markDeadLettered(e.getMessage());
+                        continue;
+                    }
+                    try {
+                        operations.convertAndSend(RabbitConfig.ORDER_EXCHANGE, event.getRoutingKey(), payload);
+                        sent.add(event);
+                    } catch (RuntimeException e) {
+                        markFailed(event, e, backoff);
+                    }
+                }
+                if (!sent.isEmpty()) {
+                    operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                }
+                return null;
+            });
+            sent.forEach(OrderOutboxEvent::markPublished);
+            log.debug("Relayed {} outbox events", sent.size());
+        } catch (Exception e) {
+            log.error("Failed to confirm {} outbox events: {}", sent.size(), e.getMessage());
+            sent.forEach(event -> markFailed(event, e, backoff));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.saveAll(batch));
+    }
+
+    private List<OrderOutboxEvent> claimDueEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderOutboxEvent> due = outboxRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+        // The claim keeps other relays off these events, and keeps later events of the same order
+        // blocked, until this relay records the outcome or crashes and the claim runs out.
+        due.forEach(event -> event.claimUntil(now.plus(claimTimeout)));
+        return due;
+    }
+
+    @Scheduled(cron = "${order.outbox.cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void deletePublishedEvents() {
+        int deleted = outboxRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("Deleted {} published outbox events", deleted);
+    }
+
+    private void markFailed(OrderOutboxEvent event, Exception e, ExponentialBackoff backoff) {
+        int attempts = event.getAttempts() == null ? 1 : event.getAttempts() + 1;
+        event.markFailed(e.getMessage(), backoff.nextAttemptAt(attempts));
+        log.warn("Outbox event {} attempt {} failed: {}", event.getId(), attempts, e.getMessage());
+    }
+
+    private Object readEvent(OrderOutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), Class.forName(event.getEventType()));
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable outbox event " + event.getId(), e);
+        }
+    }
+}
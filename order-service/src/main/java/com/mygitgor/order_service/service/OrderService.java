@@ -1,9 +1,13 @@
 package com.mygitgor.order_service.service;
 
 import com.mygitgor.order_service.domain.OrderStatus;
+import com.mygitgor.order_service.dto.BulkOrderStatusUpdateRequest;
+import com.mygitgor.order_service.dto.BulkOrderStatusUpdateResponse;
 import com.mygitgor.order_service.dto.CreateOrderRequest;
+import com.mygitgor.order_service.dto.CursorPage;
 import com.mygitgor.order_service.dto.OrderDto;
 import com.mygitgor.order_service.dto.OrderItemDto;
+import com.mygitgor.order_service.dto.OrderSummaryDto;
 
 import java.util.List;
 import java.util.Set;
@@ -12,10 +16,12 @@ import java.util.UUID;
 public interface OrderService {
     Set<OrderDto> createOrder(String userId, CreateOrderRequest request);
     OrderDto findOrderById(UUID orderId) throws Exception;
-    List<OrderDto>usersOrderHistory(UUID userId);
-    List<OrderDto> sellersOrder(UUID sellerId);
-    List<OrderDto> getSellerOrders(UUID sellerId, OrderStatus status);
+    OrderDto findOrderByOrderId(String orderId);
+    CursorPage<OrderSummaryDto> usersOrderHistory(UUID userId, String cursor, Integer size);
+    CursorPage<OrderSummaryDto> sellersOrder(UUID sellerId, String cursor, Integer size);
+    CursorPage<OrderSummaryDto> getSellerOrders(UUID sellerId, OrderStatus status, String cursor, Integer size);
     OrderDto updateOrderStatus(UUID orderId, OrderStatus status) throws Exception;
+    BulkOrderStatusUpdateResponse updateOrderStatuses(BulkOrderStatusUpdateRequest request);
     OrderDto cancelOrder(UUID orderId, UUID userId) throws Exception;
     OrderItemDto getOrderItemById(UUID orderItemId) throws Exception;
 }
@@ -1,55 +1,120 @@
 package com.mygitgor.order_service.service;
 
+import com.mygitgor.order_service.checkout.CheckoutContext;
 import com.mygitgor.order_service.client.CartClient;
 import com.mygitgor.order_service.client.ProductClient;
 import com.mygitgor.order_service.domain.Order;
 import com.mygitgor.order_service.domain.OrderItem;
 import com.mygitgor.order_service.domain.OrderStatus;
+import com.mygitgor.order_service.domain.OrderSummary;
 import com.mygitgor.order_service.dto.*;
 import com.mygitgor.order_service.dto.clientDto.*;
+import com.mygitgor.order_service.dto.event.OrderCanceledEvent;
 import com.mygitgor.order_service.dto.event.OrderCreatedEvent;
+import com.mygitgor.order_service.dto.event.OrderStatusChangedEvent;
+import com.mygitgor.order_service.id.OrderIdGenerator;
 import com.mygitgor.order_service.mapping.OrderItemMapper;
 import com.mygitgor.order_service.mapping.OrderMapper;
 import com.mygitgor.order_service.repository.OrderItemRepository;
 import com.mygitgor.order_service.repository.OrderRepository;
+import com.mygitgor.order_service.repository.OrderSummaryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderEventService orderEventService;
     private final CartClient cartClient;
     private final ProductClient productClient;
     private final OrderMapper orderMapper;
     private final OrderItemMapper orderItemMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor checkoutExecutor;
+    private final OrderIdGenerator orderIdGenerator;
+    private final ReservationConfirmationRelay reservationConfirmationRelay;
+
+    @Value("${order.checkout.parallel-assembly:true}")
+    private boolean parallelAssembly;
+
+    @Value("${order.pagination.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${order.pagination.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${order.status.bulk.max-size:500}")
+    private int maxBulkSize;
+
+    @Value("${order.reservation.min-remaining:1m}")
+    private Duration reservationMinRemaining;
 
     @Override
     public Set<OrderDto> createOrder(String userId, CreateOrderRequest request) {
         CartDto cart = cartClient.getCartByUserId(userId);
+        CheckoutContext context = new CheckoutContext(userId, request, cart,
+                productClient::getProductForCheckout);
 
-        validateCartForOrder(cart);
-
-        Map<UUID, List<CartItemDto>> itemsBySeller = groupItemsBySeller(cart.getCartItems());
+        try {
+            loadProducts(context);
+            validateCartForOrder(context);
+
+            StockReservationResponse reservation = reserveStock(context);
+            UUID reservationId = reservation.getReservationId();
+            List<Order> savedOrders;
+            try {
+                Map<UUID, List<CartItemDto>> itemsBySeller = groupItemsBySeller(context);
+
+                List<Order> orders = assembleOrders(context, itemsBySeller);
+                savedOrders = transactionTemplate.execute(status -> {
+                    if (reservation.getExpiresAt() != null
+                            && !reservation.getExpiresAt().isAfter(LocalDateTime.now().plus(reservationMinRemaining))) {
+                        throw new IllegalStateException("Stock reservation expires before checkout can complete");
+                    }
+                    reservationConfirmationRelay.enqueue(reservationId);
+                    List<Order> saved = orderRepository.saveAll(orders);
+                    orderSummaryRepository.saveAll(saved.stream().map(OrderSummary::from).toList());
+                    saved.forEach(this::sendOrderCreatedEvent);
+                    return saved;
+                });
+            } catch (RuntimeException e) {
+                productClient.releaseReservation(reservationId);
+                throw e;
+            }
 
-        Set<Order> orders = new HashSet<>();
-        for (Map.Entry<UUID, List<CartItemDto>> entry : itemsBySeller.entrySet()) {
-            Order order = createOrderForSeller(userId, entry.getKey(), request, entry.getValue());
+            reservationConfirmationRelay.confirmNow(reservationId);
 
-            Order savedOrder = orderRepository.save(order);
-            orders.add(savedOrder);
-            sendOrderCreatedEvent(savedOrder);
+            for (Order savedOrder : savedOrders) {
+                log.info("Created order {} with {} items for seller {}",
+                        savedOrder.getOrderId(), savedOrder.getOrderItems().size(), savedOrder.getSellerId());
+            }
+            cartClient.clearCart(cart.getId().toString());
+            return orderMapper.toOrderDtoSet(new HashSet<>(savedOrders));
+        } finally {
+            meterRegistry.counter("order.checkout.product.remote-calls.saved")
+                    .increment(context.getRemoteCallsSaved());
         }
-        cartClient.clearCart(cart.getId().toString());
-        return orderMapper.toOrderDtoSet(orders);
     }
 
     private void sendOrderCreatedEvent(Order order) {
@@ -64,41 +129,66 @@ public class OrderServiceImpl implements OrderService {
                 .createdAt(order.getOrderDate())
                 .build();
 
-        try {
-            orderEventService.sendOrderCreatedEvent(event);
-        } catch (Exception e) {
-            log.error("Failed to send order created event for order {}: {}",
-                    order.getId(), e.getMessage());
-        }
+        orderEventService.sendOrderCreatedEvent(event);
     }
 
-    private Order createOrderForSeller(String userId, UUID sellerId, CreateOrderRequest request,
-                                       List<CartItemDto> cartItems) {
-        Order order = Order.create(userId, UUID.fromString(request.getShippingAddress()), sellerId);
+    private Order createOrderForSeller(CheckoutContext context, UUID sellerId, List<CartItemDto> cartItems) {
+        Order order = Order.create(orderIdGenerator.nextId(), context.getUserId(),
+                UUID.fromString(context.getRequest().getShippingAddress()), sellerId);
 
         for (CartItemDto cartItem : cartItems) {
-            ProductDto product = productClient.getProductById(cartItem.getProductId().toString());
-
-            OrderItem orderItem = OrderItem.createFromCartItem(cartItem, product);
+            OrderItem orderItem = OrderItem.createFromCartItem(cartItem, context);
             orderItem.validate();
 
             order.addOrderItem(orderItem);
         }
 
         order.updateTotals();
-        Order savedOrder = orderRepository.save(order);
+        return order;
+    }
 
-        log.info("Created order {} with {} items for seller {}",
-                savedOrder.getOrderId(), cartItems.size(), sellerId);
+    private List<Order> assembleOrders(CheckoutContext context, Map<UUID, List<CartItemDto>> itemsBySeller) {
+        if (!parallelAssembly || itemsBySeller.size() < 2) {
+            return itemsBySeller.entrySet().stream()
+                    .map(entry -> createOrderForSeller(context, entry.getKey(), entry.getValue()))
+                    .toList();
+        }
+
+        List<CompletableFuture<Order>> futures = itemsBySeller.entrySet().stream()
+                .map(entry -> CompletableFuture.supplyAsync(
+                        () -> createOrderForSeller(context, entry.getKey(), entry.getValue()),
+                        checkoutExecutor))
+                .toList();
 
-        return savedOrder;
+        try {
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private StockReservationResponse reserveStock(CheckoutContext context) {
+        StockReservationResponse reservation = productClient.reserveStock(
+                new StockReservationRequest(UUID.randomUUID().toString(), cartQuantities(context)));
+        if (reservation.getReservationId() == null) {
+            String unavailable = reservation.getOutOfStockProducts().stream()
+                    .map(productId -> context.getProduct(productId).getTitle())
+                    .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(String.format("Products are out of stock: %s", unavailable));
+        }
+        return reservation;
     }
 
-    private Map<UUID, List<CartItemDto>> groupItemsBySeller(List<CartItemDto> cartItems) {
+    private Map<UUID, List<CartItemDto>> groupItemsBySeller(CheckoutContext context) {
         Map<UUID, List<CartItemDto>> itemsBySeller = new HashMap<>();
 
-        for (CartItemDto cartItem : cartItems) {
-            ProductDto product = productClient.getProductById(cartItem.getProductId().toString());
+        for (CartItemDto cartItem : context.getCart().getCartItems()) {
+            ProductDto product = context.getProduct(cartItem.getProductId());
             itemsBySeller.computeIfAbsent(product.getSellerId(), k -> new ArrayList<>())
                     .add(cartItem);
         }
@@ -106,24 +196,50 @@ public class OrderServiceImpl implements OrderService {
         return itemsBySeller;
     }
 
-    private void validateCartForOrder(CartDto cart) {
-        if (cart.getCartItems().isEmpty()) {
+    private void loadProducts(CheckoutContext context) {
+        List<CartItemDto> cartItems = context.getCart().getCartItems();
+        if (cartItems == null || cartItems.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> productIds = cartItems.stream()
+                .map(CartItemDto::getProductId)
+                .collect(Collectors.toSet());
+
+        context.preloadProducts(productClient.getProductsForCheckout(productIds));
+    }
+
+    private void validateCartForOrder(CheckoutContext context) {
+        List<CartItemDto> cartItems = context.getCart().getCartItems();
+        if (cartItems == null || cartItems.isEmpty()) {
             throw new IllegalArgumentException("Cart is empty");
         }
 
-        for (CartItemDto item : cart.getCartItems()) {
-            ProductDto product = productClient.getProductById(item.getProductId().toString());
-            if (!product.getActive() || product.getQuantity() < item.getQuantity()) {
-                throw new IllegalArgumentException(
-                        String.format("Product %s is unavailable", product.getTitle())
-                );
-            }
+        StockValidationResponse validation = productClient.validateStock(cartQuantities(context));
+        if (!Boolean.TRUE.equals(validation.getValid())) {
+            String unavailable = validation.getErrors().entrySet().stream()
+                    .map(error -> {
+                        ProductDto product = context.getProducts().get(error.getKey());
+                        String name = product != null ? product.getTitle() : error.getKey().toString();
+                        return String.format("%s (%s)", name, error.getValue());
+                    })
+                    .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(String.format("Products are unavailable: %s", unavailable));
+        }
+    }
+
+    private static Map<UUID, Integer> cartQuantities(CheckoutContext context) {
+        Map<UUID, Integer> quantities = new HashMap<>();
+        for (CartItemDto cartItem : context.getCart().getCartItems()) {
+            quantities.merge(cartItem.getProductId(), cartItem.getQuantity(), Integer::sum);
         }
+        return quantities;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public OrderDto findOrderById(UUID orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithItemsById(orderId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         String.format("order with id '%s' not found",orderId)));
 
@@ -131,57 +247,164 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
-    public List<OrderDto> usersOrderHistory(UUID userId) {
-        List<Order> orders = orderRepository.findByUserId(userId);
-        if (orders.isEmpty()) {
-            throw new EntityNotFoundException(String.format(
-                    "order wit user id '%s' not found",userId
-            ));
-        }
+    @Transactional(readOnly = true)
+    public OrderDto findOrderByOrderId(String orderId) {
+        Order order = orderRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        String.format("order with order id '%s' not found",orderId)));
 
-        return orderMapper.toOrderDtoList(orders);
+        return orderMapper.toOrderDto(order);
     }
 
     @Override
-    public List<OrderDto> sellersOrder(UUID sellerId) {
-        List<Order> orders = orderRepository.findBySellerId(sellerId);
-        if (orders.isEmpty()) {
-            throw new EntityNotFoundException(String.format(
-                    "order wit seller id '%s' not found",sellerId
-            ));
+    @Transactional(readOnly = true)
+    public CursorPage<OrderSummaryDto> usersOrderHistory(UUID userId, String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<OrderSummaryDto> orders;
+        if (cursor == null) {
+            orders = orderSummaryRepository.findFirstPageByUserId(userId.toString(), pageable);
+        } else {
+            OrderCursor position = OrderCursor.decode(cursor);
+            orders = orderSummaryRepository.findPageByUserIdAfter(
+                    userId.toString(), position.getOrderDate(), position.getId(), pageable);
         }
 
-        return orderMapper.toOrderDtoList(orders);
+        return toCursorPage(orders, limit);
+    }
+
+    @Override
+    public CursorPage<OrderSummaryDto> sellersOrder(UUID sellerId, String cursor, Integer size) {
+        return getSellerOrders(sellerId, null, cursor, size);
     }
 
     @Override
-    public List<OrderDto> getSellerOrders(UUID sellerId, OrderStatus status) {
-        List<Order> orders;
-        if (status != null) {
-            orders = orderRepository.findBySellerIdAndOrderStatus(sellerId, status);
+    @Transactional(readOnly = true)
+    public CursorPage<OrderSummaryDto> getSellerOrders(UUID sellerId, OrderStatus status, String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<OrderSummaryDto> orders;
+        if (cursor == null) {
+            orders = orderSummaryRepository.findFirstPageBySellerId(sellerId, status, pageable);
         } else {
-            orders = orderRepository.findBySellerId(sellerId);
+            OrderCursor position = OrderCursor.decode(cursor);
+            orders = orderSummaryRepository.findPageBySellerIdAfter(
+                    sellerId, status, position.getOrderDate(), position.getId(), pageable);
         }
-        return orderMapper.toOrderDtoList(orders);
+        return toCursorPage(orders, limit);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private CursorPage<OrderSummaryDto> toCursorPage(List<OrderSummaryDto> orders, int limit) {
+        boolean hasNext = orders.size() > limit;
+        List<OrderSummaryDto> page = hasNext ? orders.subList(0, limit) : orders;
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummaryDto last = page.get(page.size() - 1);
+            nextCursor = new OrderCursor(last.getOrderDate(), last.getId()).encode();
+        }
+
+        return CursorPage.<OrderSummaryDto>builder()
+                .items(page)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
+    @Transactional
     public OrderDto updateOrderStatus(UUID orderId, OrderStatus status) {
-        Order order = orderRepository.findById(orderId)
+        OrderRepository.OrderStatusRow row = orderRepository.lockStatusRow(orderId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         String.format("order with id '%s' not found",orderId)));
 
-        order.setOrderStatus(status);
-        if (status == OrderStatus.DELIVERED) {
-            order.setDeliverDate(LocalDateTime.now());
+        if (applyTransition(List.of(row), status).isEmpty()) {
+            throw new IllegalStateException(String.format(
+                    "Order '%s' cannot move from %s to %s", orderId, row.getOrderStatus(), status));
         }
-        orderRepository.save(order);
+
+        Order order = orderRepository.findWithItemsById(orderId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        String.format("order with id '%s' not found",orderId)));
         return orderMapper.toOrderDto(order);
     }
 
     @Override
+    @Transactional
+    public BulkOrderStatusUpdateResponse updateOrderStatuses(BulkOrderStatusUpdateRequest request) {
+        OrderStatus target = request.getStatus();
+        Set<UUID> requested = new LinkedHashSet<>(request.getOrderIds());
+        if (requested.size() > maxBulkSize) {
+            throw new IllegalArgumentException(String.format(
+                    "Bulk status update is limited to %d orders, got %d", maxBulkSize, requested.size()));
+        }
+
+        List<UUID> updatedIds = applyTransition(
+                orderRepository.lockStatusRows(requested, request.getSellerId()), target);
+
+        Set<UUID> updated = new HashSet<>(updatedIds);
+        List<UUID> rejectedIds = requested.stream()
+                .filter(id -> !updated.contains(id))
+                .toList();
+
+        log.info("Bulk status update to {}: {} updated, {} rejected", target, updatedIds.size(), rejectedIds.size());
+        return BulkOrderStatusUpdateResponse.builder()
+                .status(target)
+                .updatedOrderIds(updatedIds)
+                .rejectedOrderIds(rejectedIds)
+                .build();
+    }
+
+    private List<UUID> applyTransition(List<OrderRepository.OrderStatusRow> rows, OrderStatus target) {
+        List<OrderRepository.OrderStatusRow> eligible = rows.stream()
+                .filter(row -> row.getOrderStatus().canTransitionTo(target))
+                .toList();
+
+        List<UUID> updatedIds = eligible.stream().map(OrderRepository.OrderStatusRow::getId).toList();
+        if (updatedIds.isEmpty()) {
+            return updatedIds;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        orderRepository.updateStatus(updatedIds, target.allowedPredecessors(), target,
+                target == OrderStatus.DELIVERED, now);
+        orderSummaryRepository.updateStatus(updatedIds, target, target == OrderStatus.DELIVERED, now);
+
+        orderEventService.sendOrderStatusChangedEvents(eligible.stream()
+                .map(row -> OrderStatusChangedEvent.builder()
+                        .orderId(row.getId())
+                        .sellerId(row.getSellerId())
+                        .userId(row.getUserId())
+                        .previousStatus(row.getOrderStatus())
+                        .status(target)
+                        .changedAt(now)
+                        .build())
+                .toList());
+        if (target == OrderStatus.CANCELED) {
+            orderEventService.sendOrderCanceledEvents(eligible.stream()
+                    .map(row -> OrderCanceledEvent.builder()
+                            .orderId(row.getId())
+                            .sellerId(row.getSellerId())
+                            .userId(row.getUserId())
+                            .totalAmount(row.getTotalSellingPrice())
+                            .canceledAt(now)
+                            .build())
+                    .toList());
+        }
+        return updatedIds;
+    }
+
+    @Override
+    @Transactional
     public OrderDto cancelOrder(UUID orderId, UUID userId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithItemsById(orderId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         String.format("order with id '%s' not found",orderId)));
 
@@ -195,8 +418,11 @@ public class OrderServiceImpl implements OrderService {
 
         order.setOrderStatus(OrderStatus.CANCELED);
         orderRepository.save(order);
+        orderSummaryRepository.updateStatus(List.of(orderId), OrderStatus.CANCELED, false, null);
 
-        return orderMapper.toOrderDto(order);
+        OrderDto canceledOrder = orderMapper.toOrderDto(order);
+        orderEventService.sendOrderCanceledEvent(canceledOrder);
+        return canceledOrder;
     }
 
     @Override
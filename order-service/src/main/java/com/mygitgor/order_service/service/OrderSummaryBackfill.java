@@ -0,0 +1,27 @@
+package com.mygitgor.order_service.service;
+
+import com.mygitgor.order_service.repository.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.summary.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class OrderSummaryBackfill {
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int inserted = orderSummaryRepository.backfillMissing();
+        if (inserted > 0) {
+            log.info("Backfilled {} order summaries", inserted);
+        }
+    }
+}
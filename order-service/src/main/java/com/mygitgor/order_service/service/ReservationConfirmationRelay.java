@@ -0,0 +1,116 @@
+package com.mygitgor.order_service.service;
+
+import com.mygitgor.order_service.client.ProductClient;
+import com.mygitgor.order_service.domain.ReservationConfirmation;
+import com.mygitgor.order_service.repository.ReservationConfirmationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Confirms stock reservations for committed orders. The pending row is written in the same
+ * transaction as the orders, so a failed confirm is retried until product-service accepts it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationConfirmationRelay {
+    private final ReservationConfirmationRepository confirmationRepository;
+    private final ProductClient productClient;
+
+    @Value("${order.reservation.confirm.batch-size:50}")
+    private int batchSize;
+
+    @Value("${order.reservation.confirm.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${order.reservation.confirm.max-backoff:1m}")
+    private Duration maxBackoff;
+
+    @Value("${order.reservation.confirm.retention-days:7}")
+    private int retentionDays;
+
+    /**
+     * Must be called inside the transaction that persists the orders.
+     */
+    public void enqueue(UUID reservationId) {
+        ReservationConfirmation confirmation = ReservationConfirmation.pending(reservationId);
+        confirmation.setNextAttemptAt(confirmation.getCreatedAt().plus(initialBackoff));
+        confirmationRepository.save(confirmation);
+    }
+
+    public void confirmNow(UUID reservationId) {
+        try {
+            productClient.confirmReservation(reservationId);
+            confirmationRepository.markConfirmed(reservationId, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("Stock reservation {} not confirmed yet, will retry: {}", reservationId, e.getMessage());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> findReservationsWithOrders(Collection<UUID> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        return confirmationRepository.findReservationIdsIn(reservationIds);
+    }
+
+    @Scheduled(fixedDelayString = "${order.reservation.confirm.interval-ms:1000}")
+    @Transactional
+    public void relay() {
+        List<ReservationConfirmation> due = confirmationRepository.findDueForUpdate(
+                LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return;
+        }
+
+        ExponentialBackoff backoff = new ExponentialBackoff(initialBackoff, maxBackoff);
+        for (ReservationConfirmation confirmation : due) {
+            try {
+                productClient.confirmReservation(confirmation.getReservationId());
+                confirmation.markConfirmed();
+                log.info("Confirmed stock reservation {} after {} failed attempts",
+                        confirmation.getReservationId(), confirmation.getAttempts());
+            } catch (RuntimeException e) {
+                if (isRejected(e)) {
+                    confirmation.markRejected(e.getMessage());
+                    log.error("Stock reservation {} was rejected for persisted orders: {}",
+                            confirmation.getReservationId(), e.getMessage());
+                } else {
+                    int attempts = confirmation.getAttempts() == null ? 1 : confirmation.getAttempts() + 1;
+                    confirmation.markFailed(e.getMessage(), backoff.nextAttemptAt(attempts));
+                    log.warn("Stock reservation {} confirm attempt {} failed: {}",
+                            confirmation.getReservationId(), attempts, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Scheduled(cron = "${order.reservation.confirm.cleanup-cron:0 40 3 * * *}")
+    public void deleteConfirmed() {
+        int deleted = confirmationRepository.deleteConfirmedBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("Deleted {} confirmed reservation records", deleted);
+    }
+
+    private static boolean isRejected(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpClientErrorException.Conflict
+                    || cause instanceof HttpClientErrorException.NotFound) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+-- Runs before Hibernate's schema update. Orders created before the Snowflake generator may have no
+-- order number or share a random 8-hex one; every copy but the oldest gets a unique LEG_ number so
+-- the unique, NOT NULL order_id can be enforced. Safe to run on every start and on an empty database.
+DO $$
+DECLARE
+    last_legacy BIGINT;
+BEGIN
+    IF to_regclass('orders') IS NULL THEN
+        RETURN;
+    END IF;
+
+    SELECT COALESCE(MAX(SUBSTRING(order_id FROM 5)::BIGINT), 0)
+    INTO last_legacy
+    FROM orders
+    WHERE order_id ~ '^LEG_[0-9]{16}$';
+
+    WITH ranked AS (
+        SELECT id,
+               order_id,
+               ROW_NUMBER() OVER (PARTITION BY order_id ORDER BY order_date, id) AS copy
+        FROM orders
+    ), targets AS (
+        SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS seq
+        FROM ranked
+        WHERE order_id IS NULL OR copy > 1
+    )
+    UPDATE orders o
+    SET order_id = 'LEG_' || LPAD((last_legacy + t.seq)::TEXT, 16, '0')
+    FROM targets t
+    WHERE o.id = t.id;
+
+    ALTER TABLE orders ALTER COLUMN order_id SET NOT NULL;
+    CREATE UNIQUE INDEX IF NOT EXISTS uk_orders_order_id ON orders (order_id);
+END
+$$
@@ -0,0 +1,72 @@
+package com.mygitgor.order_service.checkout;
+
+import com.mygitgor.order_service.dto.CreateOrderRequest;
+import com.mygitgor.order_service.dto.clientDto.CartDto;
+import com.mygitgor.order_service.dto.clientDto.CartItemDto;
+import com.mygitgor.order_service.dto.clientDto.ProductDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckoutContextTest {
+
+    @Test
+    void getProduct_ServesPreloadedProductsWithoutRemoteCalls() {
+        AtomicInteger loaderCalls = new AtomicInteger();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        CheckoutContext context = new CheckoutContext("user", new CreateOrderRequest(), cart(first, second),
+                id -> {
+                    loaderCalls.incrementAndGet();
+                    return product(id);
+                });
+        context.preloadProducts(List.of(product(first), product(second)));
+
+        for (int pass = 0; pass < 3; pass++) {
+            assertEquals(first, context.getProduct(first).getId());
+            assertEquals(second, context.getProduct(second).getId());
+        }
+
+        assertEquals(0, loaderCalls.get());
+        // Three calls per item before, one batch call now.
+        assertEquals(5, context.getRemoteCallsSaved());
+    }
+
+    @Test
+    void getProduct_LoadsMissingProductOnlyOnce() {
+        AtomicInteger loaderCalls = new AtomicInteger();
+        UUID productId = UUID.randomUUID();
+        CheckoutContext context = new CheckoutContext("user", new CreateOrderRequest(), cart(productId),
+                id -> {
+                    loaderCalls.incrementAndGet();
+                    return product(id);
+                });
+
+        context.getProduct(productId);
+        context.getProduct(productId);
+
+        assertEquals(1, loaderCalls.get());
+        assertEquals(2, context.getRemoteCallsSaved());
+    }
+
+    private static CartDto cart(UUID... productIds) {
+        CartDto cart = new CartDto();
+        cart.setCartItems(Arrays.stream(productIds).map(productId -> {
+            CartItemDto item = new CartItemDto();
+            item.setProductId(productId);
+            return item;
+        }).toList());
+        return cart;
+    }
+
+    private static ProductDto product(UUID id) {
+        ProductDto product = new ProductDto();
+        product.setId(id);
+        return product;
+    }
+}
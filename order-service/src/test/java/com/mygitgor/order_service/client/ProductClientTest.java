@@ -0,0 +1,87 @@
+package com.mygitgor.order_service.client;
+
+import com.mygitgor.order_service.dto.clientDto.ProductDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ProductClientTest {
+    private ProductRemoteClient remoteClient;
+    private ProductClient productClient;
+
+    @BeforeEach
+    void setUp() {
+        remoteClient = mock(ProductRemoteClient.class);
+        productClient = new ProductClient(remoteClient, new SimpleMeterRegistry(),
+                Duration.ofMinutes(1), Duration.ofSeconds(30), 100);
+    }
+
+    @Test
+    void getProductById_ServesRepeatLookupsLocally() {
+        ProductDto product = product();
+        when(remoteClient.getProductById(product.getId().toString())).thenReturn(product);
+
+        productClient.getProductById(product.getId().toString());
+        productClient.getProductById(product.getId().toString());
+
+        verify(remoteClient, times(1)).getProductById(product.getId().toString());
+    }
+
+    @Test
+    void getProductsByIds_FetchesOnlyUncachedProducts() {
+        ProductDto cached = product();
+        ProductDto missing = product();
+        when(remoteClient.getProductById(cached.getId().toString())).thenReturn(cached);
+        when(remoteClient.getProductsByIds(List.of(missing.getId()))).thenReturn(List.of(missing));
+        productClient.getProductById(cached.getId().toString());
+
+        List<ProductDto> products = productClient.getProductsByIds(List.of(cached.getId(), missing.getId()));
+
+        assertEquals(List.of(cached, missing), products);
+        verify(remoteClient).getProductsByIds(List.of(missing.getId()));
+    }
+
+    @Test
+    void getProductsForCheckout_AlwaysReadsLiveProducts() {
+        ProductDto product = product();
+        when(remoteClient.getProductById(product.getId().toString())).thenReturn(product);
+        when(remoteClient.getProductsByIds(List.of(product.getId()))).thenReturn(List.of(product));
+        productClient.getProductById(product.getId().toString());
+
+        productClient.getProductsForCheckout(List.of(product.getId()));
+        productClient.getProductsForCheckout(List.of(product.getId()));
+
+        verify(remoteClient, times(2)).getProductsByIds(List.of(product.getId()));
+    }
+
+    @Test
+    void getProductById_DoesNotCacheUnavailableProducts() {
+        UUID productId = UUID.randomUUID();
+        when(remoteClient.getProductById(anyString()))
+                .thenThrow(new RuntimeException("down"))
+                .thenReturn(product(productId));
+
+        assertFalse(productClient.getProductById(productId.toString()).getInStock());
+        assertTrue(productClient.getProductById(productId.toString()).getInStock());
+    }
+
+    private static ProductDto product() {
+        return product(UUID.randomUUID());
+    }
+
+    private static ProductDto product(UUID id) {
+        ProductDto product = new ProductDto();
+        product.setId(id);
+        product.setTitle("Product");
+        product.setInStock(true);
+        return product;
+    }
+}
@@ -0,0 +1,94 @@
+package com.mygitgor.order_service.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeOrderIdGeneratorTest {
+
+    @Test
+    void nextId_IsUniqueFixedWidthAndSortedInCreationOrder() {
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(7);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        Set<String> unique = new HashSet<>(ids);
+        assertEquals(ids.size(), unique.size());
+
+        List<String> sorted = new ArrayList<>(ids);
+        sorted.sort(null);
+        assertEquals(ids, sorted);
+
+        int length = ids.get(0).length();
+        assertTrue(ids.stream().allMatch(id -> id.startsWith("ORD_") && id.length() == length));
+    }
+
+    @Test
+    void nextValue_EncodesWorkerIdAndRejectsLargeClockRollback() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(5, clock);
+
+        long value = generator.nextValue();
+        assertEquals(5, (value >> 12) & 0x3FF);
+        assertEquals(clock.millis() - SnowflakeOrderIdGenerator.EPOCH, value >>> 22);
+
+        clock.millis -= 60_000;
+        assertThrows(IllegalStateException.class, generator::nextValue);
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeOrderIdGenerator(1024));
+    }
+
+    @Test
+    void nextValue_StaysMonotonicWithoutWaitingOnSmallRollbackOrExhaustedSequence() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(5, clock);
+        long previous = generator.nextValue();
+
+        clock.millis -= 2_000;
+        for (int i = 0; i < 10_000; i++) {
+            long value = generator.nextValue();
+            assertTrue(value > previous);
+            previous = value;
+        }
+
+        assertEquals(clock.millis() + 2_000 + 2 - SnowflakeOrderIdGenerator.EPOCH, previous >>> 22);
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.mygitgor.order_service.repository;
+
+import com.mygitgor.order_service.domain.Checkout;
+import com.mygitgor.order_service.domain.CheckoutStatus;
+import com.mygitgor.order_service.dto.PaymentMethod;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+class CheckoutRepositoryTest {
+
+    @Autowired
+    private CheckoutRepository checkoutRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void complete_DoesNotOverwriteCheckoutFailedByStaleSweep() {
+        Checkout checkout = checkoutRepository.saveAndFlush(
+                Checkout.start("user", PaymentMethod.STRIPE, Set.of(UUID.randomUUID())));
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(1, checkoutRepository.failStale(CheckoutStatus.PROCESSING, CheckoutStatus.FAILED,
+                "stale", now.plusSeconds(1), now));
+        int completed = checkoutRepository.complete(checkout.getId(), CheckoutStatus.PROCESSING,
+                CheckoutStatus.COMPLETED, "https://pay/1", "pay-1", null, now);
+
+        entityManager.clear();
+        Checkout stored = checkoutRepository.findById(checkout.getId()).orElseThrow();
+        assertEquals(0, completed);
+        assertEquals(CheckoutStatus.FAILED, stored.getStatus());
+        assertNull(stored.getPaymentLinkId());
+    }
+
+    @Test
+    void complete_RecordsPaymentLinkWhileProcessing() {
+        Checkout checkout = checkoutRepository.saveAndFlush(
+                Checkout.start("user", PaymentMethod.STRIPE, Set.of(UUID.randomUUID())));
+
+        assertEquals(1, checkoutRepository.complete(checkout.getId(), CheckoutStatus.PROCESSING,
+                CheckoutStatus.COMPLETED, "https://pay/1", "pay-1", null, LocalDateTime.now()));
+        assertEquals(0, checkoutRepository.fail(checkout.getId(), CheckoutStatus.PROCESSING,
+                CheckoutStatus.FAILED, "late failure", LocalDateTime.now()));
+
+        entityManager.clear();
+        Checkout stored = checkoutRepository.findById(checkout.getId()).orElseThrow();
+        assertEquals(CheckoutStatus.COMPLETED, stored.getStatus());
+        assertEquals("pay-1", stored.getPaymentLinkId());
+    }
+}
@@ -0,0 +1,68 @@
+package com.mygitgor.order_service.repository;
+
+import com.mygitgor.order_service.domain.OrderOutboxEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+class OrderOutboxRepositoryTest {
+
+    @Autowired
+    private OrderOutboxRepository outboxRepository;
+
+    @Test
+    void findDueForUpdate_HoldsBackLaterEventsWhileEarlierOneIsBackingOff() {
+        UUID orderId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        OrderOutboxEvent created = event(orderId, "order.created", now.minusSeconds(3));
+        OrderOutboxEvent canceled = event(orderId, "order.canceled", now.minusSeconds(2));
+        OrderOutboxEvent otherOrder = event(UUID.randomUUID(), "order.created", now.minusSeconds(1));
+        created.markFailed("broker down", now.plusMinutes(1));
+        outboxRepository.saveAllAndFlush(List.of(created, canceled, otherOrder));
+
+        assertEquals(List.of(otherOrder.getId()), dueIds(now));
+
+        created.markPublished();
+        outboxRepository.saveAndFlush(created);
+        assertEquals(List.of(canceled.getId(), otherOrder.getId()), dueIds(now));
+    }
+
+    @Test
+    void findDueForUpdate_ReturnsOnlyOldestPendingEventOfEachOrder() {
+        UUID orderId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        OrderOutboxEvent created = event(orderId, "order.created", now.minusSeconds(2));
+        OrderOutboxEvent canceled = event(orderId, "order.canceled", now.minusSeconds(1));
+        outboxRepository.saveAllAndFlush(List.of(created, canceled));
+
+        assertEquals(List.of(created.getId()), dueIds(now));
+
+        created.markDeadLettered("unreadable");
+        outboxRepository.saveAndFlush(created);
+        assertEquals(List.of(canceled.getId()), dueIds(now));
+    }
+
+    private List<UUID> dueIds(LocalDateTime now) {
+        return outboxRepository.findDueForUpdate(now, PageRequest.of(0, 10)).stream()
+                .map(OrderOutboxEvent::getId)
+                .toList();
+    }
+
+    private static OrderOutboxEvent event(UUID orderId, String routingKey, LocalDateTime createdAt) {
+        OrderOutboxEvent event = OrderOutboxEvent.create(orderId, routingKey, routingKey, "{}");
+        event.setCreatedAt(createdAt);
+        event.setNextAttemptAt(createdAt);
+        return event;
+    }
+}
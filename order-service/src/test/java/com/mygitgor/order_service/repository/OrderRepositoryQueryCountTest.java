@@ -0,0 +1,87 @@
+package com.mygitgor.order_service.repository;
+
+import com.mygitgor.order_service.domain.Order;
+import com.mygitgor.order_service.domain.OrderItem;
+import com.mygitgor.order_service.id.OrderIdGenerator;
+import com.mygitgor.order_service.id.SnowflakeOrderIdGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+class OrderRepositoryQueryCountTest {
+    private static final int ORDER_COUNT = 40;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final OrderIdGenerator idGenerator = new SnowflakeOrderIdGenerator(1);
+    private final UUID sellerId = UUID.randomUUID();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.create(idGenerator.nextId(), UUID.randomUUID().toString(), UUID.randomUUID(), sellerId);
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                OrderItem item = new OrderItem();
+                item.setProductId(UUID.randomUUID());
+                item.setQuantity(1);
+                item.setSellingPrice(100);
+                item.setMrpPrice(120);
+                order.addOrderItem(item);
+            }
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listing_LoadsItemsInBoundedNumberOfQueries() {
+        List<Order> orders = orderRepository.findAll();
+
+        int items = orders.stream().mapToInt(order -> order.getOrderItems().size()).sum();
+
+        assertEquals(ORDER_COUNT, orders.size());
+        assertEquals(ORDER_COUNT * ITEMS_PER_ORDER, items);
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "expected at most 2 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findWithItemsById_FetchesOrderAndItemsInSingleQuery() {
+        UUID orderId = orderRepository.findAll().get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        Order order = orderRepository.findWithItemsById(orderId).orElseThrow();
+
+        assertEquals(ITEMS_PER_ORDER, order.getOrderItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,79 @@
+package com.mygitgor.order_service.repository;
+
+import com.mygitgor.order_service.domain.Order;
+import com.mygitgor.order_service.domain.OrderStatus;
+import com.mygitgor.order_service.domain.OrderSummary;
+import com.mygitgor.order_service.dto.OrderCursor;
+import com.mygitgor.order_service.dto.OrderSummaryDto;
+import com.mygitgor.order_service.id.OrderIdGenerator;
+import com.mygitgor.order_service.id.SnowflakeOrderIdGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+class OrderSummaryRepositoryTest {
+
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final OrderIdGenerator idGenerator = new SnowflakeOrderIdGenerator(1);
+
+    @Test
+    void sellerPages_WalkAllSummariesByKeysetWithoutOverlap() {
+        UUID sellerId = UUID.randomUUID();
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (int i = 0; i < 7; i++) {
+            Order order = Order.create(idGenerator.nextId(), UUID.randomUUID().toString(), UUID.randomUUID(), sellerId);
+            order.setOrderDate(start.plusMinutes(i / 2));
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+        assertEquals(7, orderSummaryRepository.backfillMissing());
+        assertEquals(0, orderSummaryRepository.backfillMissing());
+        entityManager.clear();
+
+        List<UUID> seen = new ArrayList<>();
+        List<OrderSummaryDto> page = orderSummaryRepository.findFirstPageBySellerId(sellerId, null, PageRequest.of(0, 3));
+        while (!page.isEmpty()) {
+            page.forEach(summary -> seen.add(summary.getId()));
+            OrderSummaryDto last = page.get(page.size() - 1);
+            OrderCursor cursor = OrderCursor.decode(new OrderCursor(last.getOrderDate(), last.getId()).encode());
+            page = orderSummaryRepository.findPageBySellerIdAfter(
+                    sellerId, null, cursor.getOrderDate(), cursor.getId(), PageRequest.of(0, 3));
+        }
+
+        assertEquals(7, seen.size());
+        assertEquals(7, seen.stream().distinct().count());
+        assertTrue(orderSummaryRepository.findFirstPageBySellerId(
+                sellerId, OrderStatus.SHIPPED, PageRequest.of(0, 3)).isEmpty());
+    }
+
+    @Test
+    void updateStatus_ChangesStatusOfSummaries() {
+        Order order = Order.create(idGenerator.nextId(), UUID.randomUUID().toString(), UUID.randomUUID(),
+                UUID.randomUUID());
+        entityManager.persist(order);
+        orderSummaryRepository.saveAndFlush(OrderSummary.from(order));
+
+        orderSummaryRepository.updateStatus(List.of(order.getId()), OrderStatus.CANCELED, false, null);
+        entityManager.clear();
+
+        assertEquals(OrderStatus.CANCELED, orderSummaryRepository.findById(order.getId()).orElseThrow().getOrderStatus());
+    }
+}
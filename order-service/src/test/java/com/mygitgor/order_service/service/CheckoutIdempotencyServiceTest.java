@@ -0,0 +1,127 @@
+package com.mygitgor.order_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mygitgor.order_service.domain.CheckoutIdempotencyRecord;
+import com.mygitgor.order_service.domain.CheckoutStatus;
+import com.mygitgor.order_service.dto.CheckoutStatusDto;
+import com.mygitgor.order_service.dto.PaymentLinkResponse;
+import com.mygitgor.order_service.repository.CheckoutIdempotencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+class CheckoutIdempotencyServiceTest {
+    private static final String USER_ID = "user-1";
+    private static final String KEY = "checkout-1";
+
+    @Autowired
+    private CheckoutIdempotencyRepository idempotencyRepository;
+
+    private CheckoutIdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = newService();
+    }
+
+    @Test
+    void claim_RejectsSecondClaimWhileLeaseIsHeld() {
+        assertTrue(idempotencyService.claim(USER_ID, KEY).isPresent());
+
+        assertTrue(idempotencyService.claim(USER_ID, KEY).isEmpty());
+    }
+
+    @Test
+    void findResponse_ReplaysCompletedCheckout() {
+        UUID leaseOwner = idempotencyService.claim(USER_ID, KEY).orElseThrow();
+        PaymentLinkResponse body = PaymentLinkResponse.success("https://pay/1", "pay-1", null);
+
+        idempotencyService.complete(USER_ID, KEY, leaseOwner, HttpStatus.OK, body);
+
+        Optional<ResponseEntity<PaymentLinkResponse>> replay =
+                newService().findResponse(USER_ID, KEY, PaymentLinkResponse.class);
+        assertTrue(replay.isPresent());
+        assertEquals(HttpStatus.OK, replay.get().getStatusCode());
+        assertEquals("pay-1", replay.get().getBody().getPayment_link_id());
+        assertTrue(idempotencyService.claim(USER_ID, KEY).isEmpty());
+    }
+
+    @Test
+    void findResponse_ReplaysAsyncCheckoutStatus() {
+        UUID leaseOwner = idempotencyService.claim(USER_ID, KEY).orElseThrow();
+        UUID checkoutId = UUID.randomUUID();
+
+        idempotencyService.complete(USER_ID, KEY, leaseOwner, HttpStatus.ACCEPTED,
+                CheckoutStatusDto.builder().checkoutId(checkoutId).status(CheckoutStatus.PROCESSING).build());
+
+        ResponseEntity<CheckoutStatusDto> replay =
+                newService().findResponse(USER_ID, KEY, CheckoutStatusDto.class).orElseThrow();
+        assertEquals(HttpStatus.ACCEPTED, replay.getStatusCode());
+        assertEquals(checkoutId, replay.getBody().getCheckoutId());
+    }
+
+    @Test
+    void claim_TakesOverExpiredLeaseAndFencesOutFormerHolder() {
+        UUID formerOwner = idempotencyService.claim(USER_ID, KEY).orElseThrow();
+        expireLease();
+
+        UUID newOwner = idempotencyService.claim(USER_ID, KEY).orElseThrow();
+        idempotencyService.release(USER_ID, KEY, formerOwner);
+        idempotencyService.complete(USER_ID, KEY, formerOwner, HttpStatus.OK, PaymentLinkResponse.error("stale"));
+
+        CheckoutIdempotencyRecord record = record();
+        assertNotEquals(formerOwner, newOwner);
+        assertEquals(newOwner, record.getLeaseOwner());
+        assertEquals(CheckoutIdempotencyRecord.Status.IN_PROGRESS, record.getStatus());
+        assertTrue(idempotencyService.findResponse(USER_ID, KEY, PaymentLinkResponse.class).isEmpty());
+    }
+
+    @Test
+    void renewLeases_KeepsRunningCheckoutFromBeingTakenOver() {
+        idempotencyService.claim(USER_ID, KEY).orElseThrow();
+        expireLease();
+
+        idempotencyService.renewLeases();
+
+        assertTrue(record().getLeaseExpiresAt().isAfter(LocalDateTime.now()));
+        assertTrue(idempotencyService.claim(USER_ID, KEY).isEmpty());
+    }
+
+    @Test
+    void release_AllowsRetryAfterFailedCheckout() {
+        UUID leaseOwner = idempotencyService.claim(USER_ID, KEY).orElseThrow();
+
+        idempotencyService.release(USER_ID, KEY, leaseOwner);
+
+        assertTrue(idempotencyService.claim(USER_ID, KEY).isPresent());
+    }
+
+    private CheckoutIdempotencyService newService() {
+        return new CheckoutIdempotencyService(idempotencyRepository, new ObjectMapper().findAndRegisterModules(),
+                Duration.ofHours(1), Duration.ofMinutes(2), Duration.ofMinutes(10), 100);
+    }
+
+    private CheckoutIdempotencyRecord record() {
+        return idempotencyRepository.findByUserIdAndIdempotencyKey(USER_ID, KEY).orElseThrow();
+    }
+
+    private void expireLease() {
+        CheckoutIdempotencyRecord record = record();
+        record.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1));
+        idempotencyRepository.saveAndFlush(record);
+    }
+}
@@ -0,0 +1,160 @@
+package com.mygitgor.order_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mygitgor.order_service.checkout.CheckoutContext;
+import com.mygitgor.order_service.client.CartClient;
+import com.mygitgor.order_service.client.ProductClient;
+import com.mygitgor.order_service.config.RabbitConfig;
+import com.mygitgor.order_service.domain.Order;
+import com.mygitgor.order_service.domain.OrderOutboxEvent;
+import com.mygitgor.order_service.domain.OrderStatus;
+import com.mygitgor.order_service.domain.OrderSummary;
+import com.mygitgor.order_service.dto.BulkOrderStatusUpdateRequest;
+import com.mygitgor.order_service.dto.BulkOrderStatusUpdateResponse;
+import com.mygitgor.order_service.id.OrderIdGenerator;
+import com.mygitgor.order_service.id.SnowflakeOrderIdGenerator;
+import com.mygitgor.order_service.mapping.OrderItemMapper;
+import com.mygitgor.order_service.mapping.OrderMapper;
+import com.mygitgor.order_service.repository.OrderItemRepository;
+import com.mygitgor.order_service.repository.OrderOutboxRepository;
+import com.mygitgor.order_service.repository.OrderRepository;
+import com.mygitgor.order_service.repository.OrderSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+class OrderStatusTransitionTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderOutboxRepository outboxRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final OrderIdGenerator idGenerator = new SnowflakeOrderIdGenerator(1);
+    private final UUID sellerId = UUID.randomUUID();
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    void setUp() {
+        OrderEventService orderEventService = new OrderEventService(outboxRepository,
+                new ObjectMapper().findAndRegisterModules());
+        orderService = new OrderServiceImpl(orderRepository, orderSummaryRepository, orderItemRepository,
+                orderEventService, mock(CartClient.class), mock(ProductClient.class), mock(OrderMapper.class),
+                mock(OrderItemMapper.class), new SimpleMeterRegistry(), mock(TransactionTemplate.class),
+                mock(ThreadPoolTaskExecutor.class), idGenerator, mock(ReservationConfirmationRelay.class));
+        ReflectionTestUtils.setField(orderService, "maxBulkSize", 10);
+    }
+
+    @Test
+    void updateOrderStatuses_UpdatesOnlyAllowedTransitionsOfOwnOrders() {
+        Order placed = order(sellerId, OrderStatus.PLACED);
+        Order delivered = order(sellerId, OrderStatus.DELIVERED);
+        Order otherSeller = order(UUID.randomUUID(), OrderStatus.PLACED);
+        UUID missing = UUID.randomUUID();
+
+        BulkOrderStatusUpdateResponse response = orderService.updateOrderStatuses(request(OrderStatus.CONFIRMED,
+                placed.getId(), delivered.getId(), otherSeller.getId(), missing));
+
+        assertEquals(List.of(placed.getId()), response.getUpdatedOrderIds());
+        assertEquals(List.of(delivered.getId(), otherSeller.getId(), missing), response.getRejectedOrderIds());
+        assertEquals(OrderStatus.CONFIRMED, statusOf(placed));
+        assertEquals(OrderStatus.DELIVERED, statusOf(delivered));
+        assertEquals(OrderStatus.PLACED, statusOf(otherSeller));
+        assertEquals(OrderStatus.CONFIRMED,
+                orderSummaryRepository.findById(placed.getId()).orElseThrow().getOrderStatus());
+        assertEquals(List.of(RabbitConfig.ORDER_STATUS_CHANGED_ROUTING_KEY), routingKeys());
+    }
+
+    @Test
+    void updateOrderStatuses_QueuesCanceledEventsForCanceledOrders() {
+        Order pending = order(sellerId, OrderStatus.PENDING);
+        Order confirmed = order(sellerId, OrderStatus.CONFIRMED);
+
+        BulkOrderStatusUpdateResponse response = orderService.updateOrderStatuses(
+                request(OrderStatus.CANCELED, pending.getId(), confirmed.getId()));
+
+        assertEquals(2, response.getUpdatedOrderIds().size());
+        List<OrderOutboxEvent> canceled = outboxRepository.findAll().stream()
+                .filter(event -> event.getRoutingKey().equals(RabbitConfig.ORDER_CANCELED_ROUTING_KEY))
+                .toList();
+        assertEquals(2, canceled.size());
+        assertTrue(canceled.stream().allMatch(event -> event.getPayload().contains(sellerId.toString())));
+    }
+
+    @Test
+    void updateOrderStatuses_RejectsRequestsAboveTheLimit() {
+        UUID[] ids = new UUID[11];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> orderService.updateOrderStatuses(request(OrderStatus.SHIPPED, ids)));
+    }
+
+    @Test
+    void updateOrderStatus_SharesTransitionRulesAndEvents() {
+        Order shipped = order(sellerId, OrderStatus.SHIPPED);
+        Order placed = order(sellerId, OrderStatus.PLACED);
+
+        orderService.updateOrderStatus(shipped.getId(), OrderStatus.DELIVERED);
+
+        assertEquals(OrderStatus.DELIVERED, statusOf(shipped));
+        assertNotNull(orderRepository.findById(shipped.getId()).orElseThrow().getDeliverDate());
+        assertEquals(List.of(RabbitConfig.ORDER_STATUS_CHANGED_ROUTING_KEY), routingKeys());
+        assertThrows(IllegalStateException.class,
+                () -> orderService.updateOrderStatus(placed.getId(), OrderStatus.DELIVERED));
+        assertEquals(OrderStatus.PLACED, statusOf(placed));
+    }
+
+    private Order order(UUID seller, OrderStatus status) {
+        Order order = Order.create(idGenerator.nextId(), UUID.randomUUID().toString(), UUID.randomUUID(), seller);
+        order.setOrderStatus(status);
+        entityManager.persist(order);
+        entityManager.persist(OrderSummary.from(order));
+        entityManager.flush();
+        return order;
+    }
+
+    private BulkOrderStatusUpdateRequest request(OrderStatus status, UUID... orderIds) {
+        BulkOrderStatusUpdateRequest request = new BulkOrderStatusUpdateRequest();
+        request.setSellerId(sellerId);
+        request.setStatus(status);
+        request.setOrderIds(List.of(orderIds));
+        return request;
+    }
+
+    private OrderStatus statusOf(Order order) {
+        return orderRepository.findById(order.getId()).orElseThrow().getOrderStatus();
+    }
+
+    private List<String> routingKeys() {
+        return outboxRepository.findAll().stream().map(OrderOutboxEvent::getRoutingKey).toList();
+    }
+}
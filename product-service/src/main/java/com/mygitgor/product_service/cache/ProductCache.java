@@ -0,0 +1,234 @@
+package com.mygitgor.product_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mygitgor.product_service.dto.ProductDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Two-tier read-through cache for {@link ProductDto}: a bounded Caffeine map per instance in front
+ * of a shared Redis tier. Redis failures degrade to a database read instead of failing the request.
+ * <p>
+ * Every product has a generation counter in Redis that {@link #evict} bumps before deleting the
+ * entry. Read-through fills remember the generation they saw before loading and only write back
+ * if it is unchanged, so a load that raced with a commit cannot put the old row back in Redis.
+ */
+@Slf4j
+@Component
+public class ProductCache {
+    private static final String KEY_PREFIX = "product:";
+    private static final String GENERATION_KEY_PREFIX = "product:gen:";
+    private static final byte[] SET_IF_GENERATION_SCRIPT = """
+            if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, ProductDto> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration redisTtl;
+    private final Cache<UUID, ProductDto> local;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public ProductCache(RedisTemplate<String, ProductDto> productRedisTemplate,
+                        StringRedisTemplate stringRedisTemplate,
+                        MeterRegistry meterRegistry,
+                        @Value("${product.cache.local.ttl:60s}") Duration localTtl,
+                        @Value("${product.cache.local.max-size:50000}") long localMaxSize,
+                        @Value("${product.cache.redis.ttl:5m}") Duration redisTtl) {
+        this.redisTemplate = productRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisTtl = redisTtl;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(localMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "product.local");
+
+        this.localHits = meterRegistry.counter("product.cache.requests", "tier", "local", "result", "hit");
+        this.localMisses = meterRegistry.counter("product.cache.requests", "tier", "local", "result", "miss");
+        this.redisHits = meterRegistry.counter("product.cache.requests", "tier", "redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter("product.cache.requests", "tier", "redis", "result", "miss");
+    }
+
+    public Optional<ProductDto> get(UUID productId, Function<UUID, Optional<ProductDto>> loader) {
+        ProductDto cached = local.getIfPresent(productId);
+        if (cached != null) {
+            localHits.increment();
+            return Optional.of(cached);
+        }
+        localMisses.increment();
+
+        ProductDto product = local.get(productId, id -> readRedis(id).orElseGet(() -> {
+            Map<UUID, String> generations = readGenerations(List.of(id));
+            ProductDto loaded = loader.apply(id).orElse(null);
+            if (loaded != null) {
+                writeRedis(List.of(loaded), generations);
+            }
+            return loaded;
+        }));
+        return Optional.ofNullable(product);
+    }
+
+    /**
+     * Resolves the given ids tier by tier, querying the loader once for whatever is left.
+     * Products the loader does not return are simply absent from the result.
+     */
+    public Map<UUID, ProductDto> getAll(Collection<UUID> productIds,
+                                        Function<Collection<UUID>, Collection<ProductDto>> loader) {
+        Set<UUID> ids = new LinkedHashSet<>(productIds);
+        Map<UUID, ProductDto> result = new HashMap<>(local.getAllPresent(ids));
+        localHits.increment(result.size());
+        localMisses.increment(ids.size() - result.size());
+
+        List<UUID> missing = ids.stream().filter(id -> !result.containsKey(id)).toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        List<ProductDto> fromRedis = readRedis(missing);
+        fromRedis.forEach(product -> {
+            result.put(product.getId(), product);
+            local.put(product.getId(), product);
+        });
+        redisHits.increment(fromRedis.size());
+        redisMisses.increment(missing.size() - fromRedis.size());
+
+        List<UUID> remaining = missing.stream().filter(id -> !result.containsKey(id)).toList();
+        if (!remaining.isEmpty()) {
+            Map<UUID, String> generations = readGenerations(remaining);
+            Collection<ProductDto> loaded = loader.apply(remaining);
+            loaded.forEach(product -> {
+                result.put(product.getId(), product);
+                local.put(product.getId(), product);
+            });
+            writeRedis(loaded, generations);
+        }
+        return result;
+    }
+
+    public void evict(Collection<UUID> productIds) {
+        evictLocal(productIds);
+        try {
+            // Bump generations before deleting so in-flight fills that loaded the old row are rejected.
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (UUID productId : productIds) {
+                    byte[] generationKey = bytes(generationKey(productId));
+                    connection.stringCommands().incr(generationKey);
+                    connection.keyCommands().pExpire(generationKey, redisTtl.toMillis());
+                }
+                return null;
+            });
+            redisTemplate.delete(productIds.stream().map(ProductCache::key).toList());
+        } catch (Exception e) {
+            log.warn("Failed to evict products {} from Redis: {}", productIds, e.getMessage());
+        }
+    }
+
+    public void evictLocal(Collection<UUID> productIds) {
+        local.invalidateAll(productIds);
+    }
+
+    private Optional<ProductDto> readRedis(UUID productId) {
+        List<ProductDto> found = readRedis(List.of(productId));
+        if (found.isEmpty()) {
+            redisMisses.increment();
+            return Optional.empty();
+        }
+        redisHits.increment();
+        return Optional.of(found.get(0));
+    }
+
+    private List<ProductDto> readRedis(List<UUID> productIds) {
+        try {
+            List<ProductDto> values = redisTemplate.opsForValue()
+                    .multiGet(productIds.stream().map(ProductCache::key).toList());
+            return values == null ? List.of() : values.stream().filter(Objects::nonNull).toList();
+        } catch (Exception e) {
+            log.warn("Redis product lookup failed, falling back to database: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Returns the current generation of each id, or an empty map if Redis is unavailable, in which
+     * case nothing is written back.
+     */
+    private Map<UUID, String> readGenerations(List<UUID> productIds) {
+        try {
+            List<String> values = stringRedisTemplate.opsForValue()
+                    .multiGet(productIds.stream().map(ProductCache::generationKey).toList());
+            if (values == null) {
+                return Map.of();
+            }
+            Map<UUID, String> generations = new HashMap<>();
+            for (int i = 0; i < productIds.size(); i++) {
+                String value = i < values.size() ? values.get(i) : null;
+                generations.put(productIds.get(i), value != null ? value : "0");
+            }
+            return generations;
+        } catch (Exception e) {
+            log.warn("Redis generation lookup failed, skipping cache fill: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void writeRedis(Collection<ProductDto> products, Map<UUID, String> generations) {
+        if (products.isEmpty() || generations.isEmpty()) {
+            return;
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            RedisSerializer<ProductDto> serializer = (RedisSerializer<ProductDto>) redisTemplate.getValueSerializer();
+            byte[] ttlMillis = bytes(Long.toString(redisTtl.toMillis()));
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ProductDto product : products) {
+                    String generation = generations.get(product.getId());
+                    if (generation == null) {
+                        continue;
+                    }
+                    connection.scriptingCommands().eval(SET_IF_GENERATION_SCRIPT, ReturnType.INTEGER, 2,
+                            bytes(key(product.getId())), bytes(generationKey(product.getId())),
+                            bytes(generation), serializer.serialize(product), ttlMillis);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to write products to Redis: {}", e.getMessage());
+        }
+    }
+
+    private static String generationKey(UUID productId) {
+        return GENERATION_KEY_PREFIX + productId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String key(UUID productId) {
+        return KEY_PREFIX + productId;
+    }
+}
@@ -0,0 +1,59 @@
+package com.mygitgor.product_service.cache;
+
+import com.mygitgor.product_service.config.RabbitConfig;
+import com.mygitgor.product_service.event.ProductChangedEvent;
+import com.mygitgor.product_service.event.RemoteProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Evicts changed products once their transaction commits and broadcasts the change on
+ * {@code product.changed}, so other product-service instances and downstream caches drop
+ * their copies as well. Receiving instances also re-publish the change locally as a
+ * {@link RemoteProductChangedEvent} so their search, facet and suggest indexes catch up.
+ * Entries that miss a broadcast still age out with the cache TTLs and index rebuilds.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidator {
+    static final String ORIGIN_HEADER = "x-origin-instance";
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private final ProductCache productCache;
+    private final RabbitTemplate rabbitTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        productCache.evict(event.getProductIds());
+        try {
+            rabbitTemplate.convertAndSend(RabbitConfig.PRODUCT_EXCHANGE,
+                    RabbitConfig.PRODUCT_CHANGED_ROUTING_KEY, event, message -> {
+                        message.getMessageProperties().setHeader(ORIGIN_HEADER, INSTANCE_ID);
+                        return message;
+                    });
+        } catch (Exception e) {
+            log.error("Failed to publish product change for {}: {}", event.getProductIds(), e.getMessage());
+        }
+    }
+
+    @RabbitListener(queues = "#{productCacheInvalidationQueue.name}")
+    public void onRemoteProductChanged(ProductChangedEvent event,
+                                       @Header(name = ORIGIN_HEADER, required = false) String origin) {
+        if (INSTANCE_ID.equals(origin)) {
+            return;
+        }
+        productCache.evictLocal(event.getProductIds());
+        eventPublisher.publishEvent(new RemoteProductChangedEvent(event.getProductIds()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.mygitgor.product_service.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderClient {
+    private final RestTemplate restTemplate;
+
+    @Value("${order.service.url:http://localhost:8085/api/orders}")
+    private String orderServiceUrl;
+
+    @Value("${internal.auth.token}")
+    private String internalToken;
+
+    /**
+     * Returns the reservations that order-service has persisted orders for. Failures propagate so
+     * callers never mistake an unreachable order-service for "no orders".
+     */
+    public Set<UUID> findReservationsWithOrders(Collection<UUID> reservationIds) {
+        String url = UriComponentsBuilder.fromUriString(orderServiceUrl)
+                .path("/reservations/lookup")
+                .toUriString();
+        ResponseEntity<UUID[]> response = restTemplate.exchange(
+                url, HttpMethod.POST, createHttpEntity(reservationIds), UUID[].class
+        );
+        log.debug("Looked up orders for reservations: {}", reservationIds);
+        return response.getBody() != null ? new HashSet<>(Arrays.asList(response.getBody())) : Set.of();
+    }
+
+    private <T> HttpEntity<T> createHttpEntity(T body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Internal-Service-Auth", internalToken);
+        return new HttpEntity<>(body, headers);
+    }
+}
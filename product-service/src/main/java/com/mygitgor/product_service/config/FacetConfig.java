@@ -0,0 +1,17 @@
+package com.mygitgor.product_service.config;
+
+import com.mygitgor.product_service.facet.ProductFacetIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class FacetConfig {
+    @Bean
+    public ProductFacetIndex productFacetIndex(
+            @Value("${product.facets.price-buckets:0,500,1000,2500,5000,10000}") List<Integer> priceBuckets) {
+        return new ProductFacetIndex(priceBuckets);
+    }
+}
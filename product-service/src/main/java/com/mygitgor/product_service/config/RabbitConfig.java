@@ -0,0 +1,47 @@
+package com.mygitgor.product_service.config;
+
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitConfig {
+    public static final String PRODUCT_EXCHANGE = "product.exchange";
+    public static final String PRODUCT_CHANGED_ROUTING_KEY = "product.changed";
+
+    @Bean
+    public TopicExchange productExchange() {
+        return new TopicExchange(PRODUCT_EXCHANGE);
+    }
+
+    /**
+     * Each instance gets its own auto-delete queue so every node drops its local cache entries
+     * and updates its in-memory indexes.
+     */
+    @Bean
+    public Queue productCacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding productCacheInvalidationBinding(Queue productCacheInvalidationQueue, TopicExchange productExchange) {
+        return BindingBuilder.bind(productCacheInvalidationQueue)
+                .to(productExchange)
+                .with(PRODUCT_CHANGED_ROUTING_KEY);
+    }
+
+    @Bean
+    public Jackson2JsonMessageConverter jsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    @Bean
+    public RabbitTemplate amqpTemplate(ConnectionFactory connectionFactory) {
+        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+        rabbitTemplate.setMessageConverter(jsonMessageConverter());
+        return rabbitTemplate;
+    }
+}
@@ -0,0 +1,24 @@
+package com.mygitgor.product_service.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mygitgor.product_service.dto.ProductDto;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisTemplate<String, ProductDto> productRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                                  ObjectMapper objectMapper) {
+        RedisTemplate<String, ProductDto> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, ProductDto.class));
+        return template;
+    }
+}
@@ -0,0 +1,21 @@
+package com.mygitgor.product_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class RestTemplateConfig {
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     @Value("${order.service.timeout:2s}") Duration timeout) {
+        return builder
+                .connectTimeout(timeout)
+                .readTimeout(timeout)
+                .build();
+    }
+}
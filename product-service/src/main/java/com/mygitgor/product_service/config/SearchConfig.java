@@ -0,0 +1,19 @@
+package com.mygitgor.product_service.config;
+
+import com.mygitgor.product_service.search.ProductSearchIndex;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class SearchConfig {
+    @Bean(destroyMethod = "close")
+    public ProductSearchIndex productSearchIndex(@Value("${product.search.index-path:data/search-index}") Path indexPath)
+            throws IOException {
+        return new ProductSearchIndex(FSDirectory.open(indexPath));
+    }
+}
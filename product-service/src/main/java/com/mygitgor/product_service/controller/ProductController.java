@@ -3,8 +3,11 @@ package com.mygitgor.product_service.controller;
 import com.mygitgor.product_service.dto.*;
 import com.mygitgor.product_service.dto.client.*;
 import com.mygitgor.product_service.service.ProductService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,9 +28,29 @@ public class ProductController {
     }
 
     @PostMapping("/validate-stock")
-    public ResponseEntity<StockValidationResponse> validateStock(@RequestBody StockValidationRequest request
+    public ResponseEntity<StockValidationResponse> validateStock(@Valid @RequestBody StockValidationRequest request
     ){
-        return null;
+        return ResponseEntity.ok(productService.validateStock(request.getProductQuantities()));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<ProductDto>> getProductsByIds(@RequestBody List<UUID> productIds){
+        List<ProductDto> products = productService.getProductsByIds(productIds);
+        return ResponseEntity.ok(products);
+    }
+
+    @GetMapping("/{productId}/ownership")
+    public ResponseEntity<ProductOwnership> getProductOwnership(@PathVariable UUID productId){
+        try {
+            return ResponseEntity.ok(productService.getProductOwnership(productId));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/ownership/batch")
+    public ResponseEntity<List<ProductOwnership>> getProductOwnerships(@RequestBody List<UUID> productIds){
+        return ResponseEntity.ok(productService.getProductOwnerships(productIds));
     }
 
     @GetMapping("/{productId}")
@@ -41,11 +64,28 @@ public class ProductController {
         return null;
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<Page<ProductDto>> searchProducts(@RequestParam("q") String query,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "20") int size
+    ){
+        Page<ProductDto> products = productService.searchProducts(query, page, size);
+        return ResponseEntity.ok(products);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggestion>> suggestProducts(@RequestParam("q") String prefix,
+                                                                   @RequestParam(defaultValue = "10") int limit
+    ){
+        return ResponseEntity.ok(productService.suggestProducts(prefix, limit));
+    }
+
     @PostMapping
-    public ResponseEntity<ProductDto> createProduct(@RequestBody CreateProductRequest request,
+    public ResponseEntity<ProductDto> createProduct(@Valid @RequestBody CreateProductRequest request,
                                                     @RequestHeader("X-Seller-Id") UUID sellerId
     ){
-        return null;
+        ProductDto product = productService.createProduct(request, sellerId);
+        return new ResponseEntity<>(product, HttpStatus.CREATED);
     }
 
     @PutMapping("/{productId}")
@@ -53,29 +93,96 @@ public class ProductController {
                                                     @RequestBody ProductDto productDto,
                                                     @RequestHeader("X-Seller-Id") UUID sellerId
     ){
-        return null;
+        try {
+            if (!ownedBy(productId, sellerId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            ProductDto product = productService.updateProduct(productId, productDto);
+            return ResponseEntity.ok(product);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
 
     @DeleteMapping("/{productId}")
     public ResponseEntity<Boolean> deleteProduct(@PathVariable UUID productId,
                                                  @RequestHeader("X-Seller-Id") UUID sellerId
     ){
-        return null;
+        try {
+            if (!ownedBy(productId, sellerId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+        Boolean deleted = productService.deleteProduct(productId);
+        return deleted ? ResponseEntity.ok(true) : ResponseEntity.notFound().build();
+    }
+
+    private boolean ownedBy(UUID productId, UUID sellerId) {
+        return sellerId.equals(productService.getProductOwnership(productId).getSellerId());
     }
 
     @GetMapping("/{productId}/seller")
     public ResponseEntity<UUID> getProductSellerId(@PathVariable UUID productId
     ){
-        return null;
+        try {
+            return ResponseEntity.ok(productService.getProductOwnership(productId).getSellerId());
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
 
     @GetMapping
-    public ResponseEntity<Page<ProductDto>> getAllProducts(@RequestParam(defaultValue = "0") int page,
+    public ResponseEntity<Page<ProductDto>> getAllProducts(@RequestParam(required = false) String category,
+                                                           @RequestParam(required = false) List<String> brands,
+                                                           @RequestParam(required = false) List<String> colors,
+                                                           @RequestParam(required = false) List<String> sizes,
+                                                           @RequestParam(required = false) Integer minPrice,
+                                                           @RequestParam(required = false) Integer maxPrice,
+                                                           @RequestParam(required = false) Integer minDiscount,
+                                                           @RequestParam(required = false) Boolean inStock,
+                                                           @RequestParam(defaultValue = "0") int page,
                                                            @RequestParam(defaultValue = "20") int size,
                                                            @RequestParam(defaultValue = "createdAt") String sortBy,
                                                            @RequestParam(defaultValue = "desc") String sortDirection
     ){
-        return null;
+        ProductFilter filter = toFilter(category, brands, colors, sizes, minPrice, maxPrice, minDiscount, inStock);
+        try {
+            Page<ProductDto> products = productService.getAllProducts(filter, page, size, sortBy, sortDirection);
+            return ResponseEntity.ok(products);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<ProductFacets> getProductFacets(@RequestParam(required = false) String category,
+                                                          @RequestParam(required = false) List<String> brands,
+                                                          @RequestParam(required = false) List<String> colors,
+                                                          @RequestParam(required = false) List<String> sizes,
+                                                          @RequestParam(required = false) Integer minPrice,
+                                                          @RequestParam(required = false) Integer maxPrice,
+                                                          @RequestParam(required = false) Integer minDiscount,
+                                                          @RequestParam(required = false) Boolean inStock
+    ){
+        ProductFilter filter = toFilter(category, brands, colors, sizes, minPrice, maxPrice, minDiscount, inStock);
+        return ResponseEntity.ok(productService.getProductFacets(filter));
+    }
+
+    private static ProductFilter toFilter(String category, List<String> brands, List<String> colors,
+                                          List<String> sizes, Integer minPrice, Integer maxPrice,
+                                          Integer minDiscount, Boolean inStock) {
+        return ProductFilter.builder()
+                .category(category)
+                .brands(brands)
+                .colors(colors)
+                .sizes(sizes)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minDiscount(minDiscount)
+                .inStock(inStock)
+                .build();
     }
 
     @PatchMapping("/{productId}/quantity")
@@ -111,10 +218,10 @@ public class ProductController {
     }
 
     @PostMapping("/bulk/status")
-    public ResponseEntity<List<ProductDto>> bulkUpdateStatus(@RequestBody BulkStatusUpdateRequest request,
-                                                             @RequestHeader("X-Seller-Id") UUID sellerId
+    public ResponseEntity<BulkStatusUpdateResponse> bulkUpdateStatus(@Valid @RequestBody BulkStatusUpdateRequest request,
+                                                                     @RequestHeader("X-Seller-Id") UUID sellerId
     ){
-        return null;
+        return ResponseEntity.ok(productService.bulkUpdateStatus(sellerId, request.getProductIds(), request.getActive()));
     }
 
     @GetMapping("/seller/{sellerId}/stats")
@@ -0,0 +1,75 @@
+package com.mygitgor.product_service.controller;
+
+import com.mygitgor.product_service.domain.ImportFormat;
+import com.mygitgor.product_service.dto.ProductImportJobDto;
+import com.mygitgor.product_service.service.ProductImportService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Locale;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/products/imports")
+@RequiredArgsConstructor
+public class ProductImportController {
+    private final ProductImportService importService;
+
+    /**
+     * Accepts a CSV file with a header row or newline-delimited JSON, one product per row, as the
+     * raw request body. The format comes from {@code format} or else from the Content-Type.
+     */
+    @PostMapping
+    public ResponseEntity<ProductImportJobDto> startImport(InputStream content,
+                                                           @RequestParam(required = false) String format,
+                                                           @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                                           @RequestHeader("X-Seller-Id") UUID sellerId
+    ){
+        try {
+            ProductImportJobDto job = importService.startImport(sellerId, resolveFormat(format, contentType), content);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .location(URI.create("/api/products/imports/" + job.getId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            log.error("Import rejected for seller {}: {}", sellerId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ProductImportJobDto> getImportJob(@PathVariable UUID jobId,
+                                                            @RequestHeader("X-Seller-Id") UUID sellerId
+    ){
+        try {
+            ProductImportJobDto job = importService.getImportJob(jobId);
+            if (!sellerId.equals(job.getSellerId())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            return ResponseEntity.ok(job);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    private static ImportFormat resolveFormat(String format, String contentType) {
+        if (format != null && !format.isBlank()) {
+            return ImportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        }
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (type.contains("csv")) {
+            return ImportFormat.CSV;
+        }
+        if (type.contains("ndjson") || type.contains("jsonl") || type.contains("json-seq")) {
+            return ImportFormat.NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported import content type '" + contentType + "'");
+    }
+}
@@ -0,0 +1,110 @@
+package com.mygitgor.product_service.controller;
+
+import com.mygitgor.product_service.dto.CreateReviewRequest;
+import com.mygitgor.product_service.dto.ModerateReviewRequest;
+import com.mygitgor.product_service.dto.RatingSummary;
+import com.mygitgor.product_service.dto.ReviewDto;
+import com.mygitgor.product_service.dto.ReviewPage;
+import com.mygitgor.product_service.service.ReviewService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+public class ReviewController {
+    private final ReviewService reviewService;
+
+    @PostMapping("/{productId}/reviews")
+    public ResponseEntity<ReviewDto> createReview(@PathVariable UUID productId,
+                                                  @Valid @RequestBody CreateReviewRequest request,
+                                                  @RequestHeader("X-User-Id") String userId
+    ){
+        try {
+            return new ResponseEntity<>(reviewService.createReview(productId, userId, request), HttpStatus.CREATED);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/{productId}/reviews")
+    public ResponseEntity<ReviewPage> getProductReviews(@PathVariable UUID productId,
+                                                        @RequestParam(defaultValue = "recent") String sort,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") int size,
+                                                        @RequestHeader(value = "X-User-Id", required = false) String userId
+    ){
+        try {
+            return ResponseEntity.ok(reviewService.getProductReviews(productId, sort, cursor, size, userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{productId}/reviews/summary")
+    public ResponseEntity<RatingSummary> getRatingSummary(@PathVariable UUID productId){
+        try {
+            return ResponseEntity.ok(reviewService.getRatingSummary(productId));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @DeleteMapping("/reviews/{reviewId}")
+    public ResponseEntity<Boolean> deleteReview(@PathVariable UUID reviewId,
+                                                @RequestHeader(value = "X-User-Id", required = false) String userId
+    ){
+        try {
+            Boolean deleted = reviewService.deleteReview(reviewId, userId);
+            return deleted ? ResponseEntity.ok(true) : ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            log.error("Review {} delete rejected: {}", reviewId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
+    @PatchMapping("/reviews/{reviewId}/moderation")
+    public ResponseEntity<ReviewDto> moderateReview(@PathVariable UUID reviewId,
+                                                    @Valid @RequestBody ModerateReviewRequest request
+    ){
+        try {
+            return ResponseEntity.ok(reviewService.moderateReview(
+                    reviewId, request.getApprove(), request.getModeratorNotes()));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            log.error("Review {} moderation rejected: {}", reviewId, e.getMessage());
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+    }
+
+    @PutMapping("/reviews/{reviewId}/helpful")
+    public ResponseEntity<Integer> voteHelpful(@PathVariable UUID reviewId,
+                                               @RequestHeader("X-User-Id") String userId
+    ){
+        try {
+            return ResponseEntity.ok(reviewService.voteHelpful(reviewId, userId));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @DeleteMapping("/reviews/{reviewId}/helpful")
+    public ResponseEntity<Integer> unvoteHelpful(@PathVariable UUID reviewId,
+                                                 @RequestHeader("X-User-Id") String userId
+    ){
+        try {
+            return ResponseEntity.ok(reviewService.unvoteHelpful(reviewId, userId));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.mygitgor.product_service.controller;
+
+import com.mygitgor.product_service.dto.client.StockReservationRequest;
+import com.mygitgor.product_service.dto.client.StockReservationResponse;
+import com.mygitgor.product_service.service.StockReservationService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/products/reservations")
+@RequiredArgsConstructor
+public class StockReservationController {
+    private final StockReservationService reservationService;
+
+    @PostMapping
+    public ResponseEntity<StockReservationResponse> reserve(@Valid @RequestBody StockReservationRequest request) {
+        try {
+            StockReservationResponse response = reservationService.reserve(request);
+            if (response.getReservationId() == null) {
+                return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+            }
+            return new ResponseEntity<>(response, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid reservation request {}: {}", request.getReferenceId(), e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(StockReservationResponse.builder()
+                            .referenceId(request.getReferenceId())
+                            .error(e.getMessage())
+                            .build());
+        }
+    }
+
+    @PostMapping("/{reservationId}/confirm")
+    public ResponseEntity<StockReservationResponse> confirm(@PathVariable UUID reservationId) {
+        return transition(reservationId, () -> reservationService.confirm(reservationId));
+    }
+
+    @PostMapping("/{reservationId}/release")
+    public ResponseEntity<StockReservationResponse> release(@PathVariable UUID reservationId) {
+        return transition(reservationId, () -> reservationService.release(reservationId));
+    }
+
+    private ResponseEntity<StockReservationResponse> transition(UUID reservationId,
+                                                                Supplier<StockReservationResponse> action) {
+        try {
+            return ResponseEntity.ok(action.get());
+        } catch (EntityNotFoundException e) {
+            log.error("Reservation {} not found", reservationId);
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalStateException e) {
+            log.error("Reservation {} transition rejected: {}", reservationId, e.getMessage());
+            return new ResponseEntity<>(StockReservationResponse.builder()
+                    .reservationId(reservationId)
+                    .error(e.getMessage())
+                    .build(), HttpStatus.CONFLICT);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.mygitgor.product_service.domain;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON
+}
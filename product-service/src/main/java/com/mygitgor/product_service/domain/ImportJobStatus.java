@@ -0,0 +1,8 @@
+package com.mygitgor.product_service.domain;
+
+public enum ImportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
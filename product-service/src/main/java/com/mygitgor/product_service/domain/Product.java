@@ -13,7 +13,13 @@ import java.util.UUID;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_active_created", columnList = "active, created_at, id"),
+        @Index(name = "idx_products_active_price", columnList = "active, selling_price, id"),
+        @Index(name = "idx_products_active_discount", columnList = "active, discount_percent, id"),
+        @Index(name = "idx_products_category_price", columnList = "category_id, active, selling_price"),
+        @Index(name = "idx_products_brand_price", columnList = "brand, active, selling_price")
+})
 @ToString(callSuper = true, exclude = {"category","reviews"})
 @EqualsAndHashCode(callSuper = true, exclude = {"category","reviews"})
 public class Product extends BaseEntity {
@@ -44,8 +50,6 @@ public class Product extends BaseEntity {
     private String size;
 
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true,fetch = FetchType.LAZY)
-    @ToString.Exclude
-    @EqualsAndHashCode.Exclude
     private List<Review>reviews = new ArrayList<>();
 
     private String brand;
@@ -70,6 +74,13 @@ public class Product extends BaseEntity {
     private Double averageRating = 0.0;
     private Integer reviewCount = 0;
 
+    private Double ratingSum = 0.0;
+    private Integer oneStarCount = 0;
+    private Integer twoStarCount = 0;
+    private Integer threeStarCount = 0;
+    private Integer fourStarCount = 0;
+    private Integer fiveStarCount = 0;
+
     private Boolean featured = false;
     private Boolean inStock = true;
 
@@ -97,6 +108,21 @@ public class Product extends BaseEntity {
         }
     }
 
+    public void applyCreationDefaults() {
+        if (this.active == null) {
+            this.active = true;
+        }
+        if (this.featured == null) {
+            this.featured = false;
+        }
+        if (this.minOrderQuantity == null) {
+            this.minOrderQuantity = 1;
+        }
+        if (this.maxOrderQuantity == null) {
+            this.maxOrderQuantity = 10;
+        }
+    }
+
     public boolean isAvailable() {
         return Boolean.TRUE.equals(active) &&
                 Boolean.TRUE.equals(approved) &&
@@ -122,25 +148,33 @@ public class Product extends BaseEntity {
     public void addReview(Review review) {
         this.reviews.add(review);
         review.setProduct(this);
-        updateRatingStats();
+        if (review.isVisible()) {
+            recordRating(review, 1);
+        }
     }
 
     public void removeReview(Review review) {
         this.reviews.remove(review);
         review.setProduct(null);
-        updateRatingStats();
+        if (review.isVisible()) {
+            recordRating(review, -1);
+        }
     }
 
-    private void updateRatingStats() {
-        if (!this.reviews.isEmpty()) {
-            this.reviewCount = this.reviews.size();
-            this.averageRating = this.reviews.stream()
-                    .mapToDouble(Review::getRating)
-                    .average()
-                    .orElse(0.0);
-        } else {
-            this.reviewCount = 0;
-            this.averageRating = 0.0;
+    /**
+     * Applies one visible review to the running aggregates in memory. Persisted products are
+     * updated through {@code ProductRepository.applyRating}, which does the same in SQL.
+     */
+    public void recordRating(Review review, int delta) {
+        this.ratingSum = this.ratingSum + delta * review.getRating();
+        this.reviewCount = this.reviewCount + delta;
+        this.averageRating = this.reviewCount > 0 ? this.ratingSum / this.reviewCount : 0.0;
+        switch (review.getStars()) {
+            case 1 -> this.oneStarCount += delta;
+            case 2 -> this.twoStarCount += delta;
+            case 3 -> this.threeStarCount += delta;
+            case 4 -> this.fourStarCount += delta;
+            default -> this.fiveStarCount += delta;
         }
     }
 
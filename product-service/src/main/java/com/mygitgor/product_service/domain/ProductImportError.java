@@ -0,0 +1,27 @@
+package com.mygitgor.product_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "product_import_errors", indexes = {
+        @Index(name = "idx_product_import_errors_job_row", columnList = "job_id, row_num")
+})
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class ProductImportError extends BaseEntity {
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "row_num", nullable = false)
+    private long rowNumber;
+
+    @Column(length = 1000)
+    private String message;
+}
@@ -0,0 +1,53 @@
+package com.mygitgor.product_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "product_import_jobs", indexes = {
+        @Index(name = "idx_product_import_jobs_seller", columnList = "seller_id, created_at")
+})
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class ProductImportJob extends BaseEntity {
+    @Column(nullable = false)
+    private UUID sellerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportJobStatus status = ImportJobStatus.PENDING;
+
+    private long sizeBytes;
+    private long processedBytes;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+
+    @Column(length = 1000)
+    private String error;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static ProductImportJob pending(UUID sellerId, ImportFormat format, long sizeBytes) {
+        ProductImportJob job = new ProductImportJob();
+        job.setSellerId(sellerId);
+        job.setFormat(format);
+        job.setSizeBytes(sizeBytes);
+        job.setStatus(ImportJobStatus.PENDING);
+        job.setCreatedAt(LocalDateTime.now());
+        return job;
+    }
+}
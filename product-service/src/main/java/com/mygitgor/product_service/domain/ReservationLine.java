@@ -0,0 +1,23 @@
+package com.mygitgor.product_service.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationLine {
+    @Column(nullable = false)
+    private UUID productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+}
@@ -0,0 +1,8 @@
+package com.mygitgor.product_service.domain;
+
+public enum ReservationStatus {
+    HELD,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
@@ -3,16 +3,22 @@ package com.mygitgor.product_service.domain;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_product_created", columnList = "product_id, status, created_at, id"),
+        @Index(name = "idx_reviews_product_helpful", columnList = "product_id, status, helpful_count, id"),
+        @Index(name = "idx_reviews_product_rating", columnList = "product_id, status, rating, id")
+})
 @ToString(callSuper = true, exclude = "product")
 @EqualsAndHashCode(callSuper = true, exclude = "product")
 public class Review extends BaseEntity {
@@ -24,6 +30,7 @@ public class Review extends BaseEntity {
     private Double rating;
 
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "review_images", joinColumns = @JoinColumn(name = "review_id"))
     @Column(name = "image_url")
     private List<String> productImages = new ArrayList<>();
@@ -58,10 +65,8 @@ public class Review extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private ReviewStatus status = ReviewStatus.ACTIVE;
 
-    @ElementCollection
-    @CollectionTable(name = "review_helpful_votes", joinColumns = @JoinColumn(name = "review_id"))
-    @Column(name = "user_id")
-    private Set<String> helpfulVotes = new HashSet<>();
+    @Column(nullable = false)
+    private Integer helpfulCount = 0;
 
     @PrePersist
     protected void onCreate() {
@@ -83,28 +88,6 @@ public class Review extends BaseEntity {
     }
 
 
-    public void markHelpful(String userId) {
-        if (userId != null && !helpfulVotes.contains(userId)) {
-            helpfulVotes.add(userId);
-            likes = helpfulVotes.size();
-        }
-    }
-
-    public void unmarkHelpful(String userId) {
-        if (userId != null && helpfulVotes.contains(userId)) {
-            helpfulVotes.remove(userId);
-            likes = helpfulVotes.size();
-        }
-    }
-
-    public boolean isHelpfulByUser(String userId) {
-        return userId != null && helpfulVotes.contains(userId);
-    }
-
-    public Integer getHelpfulCount() {
-        return helpfulVotes.size();
-    }
-
     public void approve(String moderatorNotes) {
         this.status = ReviewStatus.ACTIVE;
         this.approved = true;
@@ -127,6 +110,10 @@ public class Review extends BaseEntity {
         return status == ReviewStatus.ACTIVE || status == ReviewStatus.PENDING;
     }
 
+    public int getStars() {
+        return (int) Math.max(1, Math.min(5, Math.round(rating)));
+    }
+
     public boolean isVisible() {
         return status == ReviewStatus.ACTIVE && Boolean.TRUE.equals(approved);
     }
@@ -0,0 +1,39 @@
+package com.mygitgor.product_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One user's "helpful" vote on a review. The composite key is the unique (review_id, user_id)
+ * index that makes vote toggles idempotent single-row writes.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "review_helpful_votes")
+public class ReviewHelpfulVote {
+    @EmbeddedId
+    private Key id;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        @Column(name = "review_id", nullable = false)
+        private UUID reviewId;
+
+        @Column(name = "user_id", nullable = false)
+        private String userId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.mygitgor.product_service.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "stock_reservations", indexes = {
+        @Index(name = "uk_stock_reservations_reference", columnList = "reference_id", unique = true),
+        @Index(name = "idx_stock_reservations_status_expiry", columnList = "status, expires_at")
+})
+@ToString(callSuper = true, exclude = "lines")
+@EqualsAndHashCode(callSuper = true, exclude = "lines")
+public class StockReservation extends BaseEntity {
+    @Column(nullable = false)
+    private String referenceId;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "stock_reservation_lines", joinColumns = @JoinColumn(name = "reservation_id"))
+    private List<ReservationLine> lines = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public static StockReservation hold(String referenceId, List<ReservationLine> lines, LocalDateTime expiresAt) {
+        StockReservation reservation = new StockReservation();
+        reservation.setReferenceId(referenceId);
+        reservation.setLines(new ArrayList<>(lines));
+        reservation.setStatus(ReservationStatus.HELD);
+        reservation.setExpiresAt(expiresAt);
+        reservation.setCreatedAt(LocalDateTime.now());
+        return reservation;
+    }
+}
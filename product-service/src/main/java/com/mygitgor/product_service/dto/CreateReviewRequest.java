@@ -0,0 +1,29 @@
+package com.mygitgor.product_service.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateReviewRequest {
+    private String title;
+    @NotBlank
+    private String reviewText;
+    @NotNull
+    @DecimalMin("1.0")
+    @DecimalMax("5.0")
+    private Double rating;
+    private List<String> productImages;
+    private String userName;
+    private String userAvatar;
+}
@@ -0,0 +1,17 @@
+package com.mygitgor.product_service.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModerateReviewRequest {
+    @NotNull
+    private Boolean approve;
+    private String moderatorNotes;
+}
@@ -24,6 +24,8 @@ public class ProductDto {
     private String color;
     private List<String> images;
     private Integer numRatings;
+    private Double averageRating;
+    private Integer reviewCount;
     private String size;
     private UUID sellerId;
     private UUID categoryId;
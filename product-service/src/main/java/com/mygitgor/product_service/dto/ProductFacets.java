@@ -0,0 +1,20 @@
+package com.mygitgor.product_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacets {
+    private long total;
+    private Map<String, Long> brands;
+    private Map<String, Long> colors;
+    private Map<String, Long> sizes;
+    private Map<String, Long> priceRanges;
+}
@@ -0,0 +1,23 @@
+package com.mygitgor.product_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilter {
+    private String category;
+    private List<String> brands;
+    private List<String> colors;
+    private List<String> sizes;
+    private Integer minPrice;
+    private Integer maxPrice;
+    private Integer minDiscount;
+    private Boolean inStock;
+}
@@ -0,0 +1,32 @@
+package com.mygitgor.product_service.dto;
+
+import com.mygitgor.product_service.domain.ImportFormat;
+import com.mygitgor.product_service.domain.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportJobDto {
+    private UUID id;
+    private UUID sellerId;
+    private ImportFormat format;
+    private ImportJobStatus status;
+    private Integer progressPercent;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<ImportRowError> errors;
+}
@@ -0,0 +1,15 @@
+package com.mygitgor.product_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductSuggestion {
+    private final String text;
+    private final Type type;
+
+    public enum Type {
+        TITLE, BRAND, CATEGORY
+    }
+}
@@ -0,0 +1,34 @@
+package com.mygitgor.product_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummary {
+    private UUID productId;
+    private Double averageRating;
+    private Integer reviewCount;
+    private Map<Integer, Integer> histogram;
+
+    public RatingSummary(UUID productId, Double averageRating, Integer reviewCount,
+                         Integer oneStar, Integer twoStar, Integer threeStar, Integer fourStar, Integer fiveStar) {
+        this.productId = productId;
+        this.averageRating = averageRating;
+        this.reviewCount = reviewCount;
+        this.histogram = new LinkedHashMap<>();
+        histogram.put(5, fiveStar);
+        histogram.put(4, fourStar);
+        histogram.put(3, threeStar);
+        histogram.put(2, twoStar);
+        histogram.put(1, oneStar);
+    }
+}
@@ -32,14 +32,11 @@ public class ReviewDto {
     private LocalDateTime updatedAt;
     private ReviewStatus status;
     private Integer helpfulCount;
+    private Boolean votedHelpful;
     private UUID productId;
     private String productTitle;
 
     public boolean isVisible() {
         return status == ReviewStatus.ACTIVE && Boolean.TRUE.equals(approved);
     }
-
-    public boolean isHelpfulByCurrentUser(String currentUserId) {
-        return false;
-    }
 }
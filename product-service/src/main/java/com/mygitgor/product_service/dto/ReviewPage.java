@@ -0,0 +1,18 @@
+package com.mygitgor.product_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewPage {
+    private List<ReviewDto> reviews;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,36 @@
+package com.mygitgor.product_service.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReviewSort {
+    RECENT("recent", "createdAt", Sort.Direction.DESC, LocalDateTime::parse),
+    HELPFUL("helpful", "helpfulCount", Sort.Direction.DESC, Integer::valueOf),
+    RATING_HIGH("rating_high", "rating", Sort.Direction.DESC, Double::valueOf),
+    RATING_LOW("rating_low", "rating", Sort.Direction.ASC, Double::valueOf);
+
+    private final String value;
+    private final String property;
+    private final Sort.Direction direction;
+    private final Function<String, Object> keyParser;
+
+    public Sort toSort() {
+        return Sort.by(direction, property).and(Sort.by(direction, "id"));
+    }
+
+    public static ReviewSort from(String value) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format(
+                        "Unsupported sort '%s', expected one of %s", value,
+                        Arrays.stream(values()).map(ReviewSort::getValue).toList())));
+    }
+}
@@ -0,0 +1,23 @@
+package com.mygitgor.product_service.dto.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+    private Boolean active;
+    @Builder.Default
+    private List<UUID> updatedProductIds = new ArrayList<>();
+    @Builder.Default
+    private List<UUID> rejectedProductIds = new ArrayList<>();
+    private String error;
+}
@@ -0,0 +1,16 @@
+package com.mygitgor.product_service.dto.client;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+public class StockReservationRequest {
+    @NotBlank
+    private String referenceId;
+    @NotEmpty
+    private Map<UUID, Integer> productQuantities;
+}
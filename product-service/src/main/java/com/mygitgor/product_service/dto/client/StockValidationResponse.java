@@ -1,14 +1,24 @@
 package com.mygitgor.product_service.dto.client;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 @Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class StockValidationResponse {
     private Boolean valid;
-    private Map<UUID, String> errors;
-    private List<UUID> outOfStockProducts;
+    @Builder.Default
+    private Map<UUID, String> errors = new LinkedHashMap<>();
+    @Builder.Default
+    private List<UUID> outOfStockProducts = new ArrayList<>();
 }
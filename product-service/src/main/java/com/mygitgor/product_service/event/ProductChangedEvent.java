@@ -0,0 +1,23 @@
+package com.mygitgor.product_service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published after products are created, updated or deleted. Listeners re-read the current
+ * state by id, so the event only carries the ids that changed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductChangedEvent {
+    private List<UUID> productIds;
+
+    public static ProductChangedEvent of(UUID productId) {
+        return new ProductChangedEvent(List.of(productId));
+    }
+}
@@ -0,0 +1,18 @@
+package com.mygitgor.product_service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A {@link ProductChangedEvent} committed by another product-service instance and received over
+ * the {@code product.changed} broadcast. Kept as a separate type so local listeners never
+ * re-broadcast it.
+ */
+@Data
+@AllArgsConstructor
+public class RemoteProductChangedEvent {
+    private List<UUID> productIds;
+}
@@ -0,0 +1,19 @@
+package com.mygitgor.product_service.facet;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ProductFacetEntry {
+    private UUID id;
+    private String categoryId;
+    private String brand;
+    private String color;
+    private String size;
+    private Integer sellingPrice;
+    private Integer discountPercent;
+    private Boolean inStock;
+}
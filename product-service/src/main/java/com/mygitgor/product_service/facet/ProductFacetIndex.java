@@ -0,0 +1,308 @@
+package com.mygitgor.product_service.facet;
+
+import com.mygitgor.product_service.dto.ProductFacets;
+import com.mygitgor.product_service.dto.ProductFilter;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory facet counts for active products. Every product gets a dense slot and each facet
+ * value keeps a bitset of the slots carrying it, so counting a facet for the current filter is
+ * an AND plus a popcount per value instead of a GROUP BY per facet.
+ * <p>
+ * Counts follow multi-select semantics: a facet's own selection is left out when counting that
+ * facet, so the storefront can still show the alternatives.
+ */
+public class ProductFacetIndex {
+    private final int[] priceBounds;
+    private final String[] priceLabels;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private ProductFacetEntry[] entries = new ProductFacetEntry[1024];
+    private int nextSlot;
+
+    private final BitSet live = new BitSet();
+    private final BitSet inStock = new BitSet();
+    private final Map<String, BitSet> categories = new HashMap<>();
+    private final Map<String, BitSet> brands = new HashMap<>();
+    private final Map<String, BitSet> colors = new HashMap<>();
+    private final Map<String, BitSet> sizes = new HashMap<>();
+    private final Map<String, BitSet> priceBuckets = new HashMap<>();
+
+    private BitSet rebuildSeen;
+
+    public ProductFacetIndex(List<Integer> priceBounds) {
+        this.priceBounds = priceBounds.stream().mapToInt(Integer::intValue).sorted().toArray();
+        if (this.priceBounds.length == 0) {
+            throw new IllegalArgumentException("At least one price bucket bound is required");
+        }
+        this.priceLabels = new String[this.priceBounds.length];
+        for (int i = 0; i < this.priceBounds.length; i++) {
+            priceLabels[i] = i + 1 < this.priceBounds.length
+                    ? this.priceBounds[i] + "-" + (this.priceBounds[i + 1] - 1)
+                    : this.priceBounds[i] + "+";
+        }
+    }
+
+    public void apply(Collection<ProductFacetEntry> changed) {
+        lock.writeLock().lock();
+        try {
+            for (ProductFacetEntry entry : changed) {
+                Integer slot = slots.get(entry.getId());
+                if (slot != null) {
+                    unindex(slot, entries[slot]);
+                } else {
+                    slot = allocateSlot(entry.getId());
+                }
+                index(slot, entry);
+                if (rebuildSeen != null) {
+                    rebuildSeen.set(slot);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Collection<UUID> productIds) {
+        lock.writeLock().lock();
+        try {
+            productIds.forEach(this::removeSlot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks the start of a full reload. Products not applied between this call and
+     * {@link #finishRebuild()} are dropped at the end, while the existing counts keep serving.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildSeen = new BitSet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (rebuildSeen == null) {
+                return;
+            }
+            BitSet stale = (BitSet) live.clone();
+            stale.andNot(rebuildSeen);
+            for (int slot = stale.nextSetBit(0); slot >= 0; slot = stale.nextSetBit(slot + 1)) {
+                removeSlot(entries[slot].getId());
+            }
+            rebuildSeen = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ProductFacets count(ProductFilter filter) {
+        lock.readLock().lock();
+        try {
+            BitSet base = (BitSet) live.clone();
+            if (filter.getCategory() != null && !filter.getCategory().isBlank()) {
+                base.and(categories.getOrDefault(filter.getCategory(), new BitSet()));
+            }
+            if (filter.getInStock() != null) {
+                if (filter.getInStock()) {
+                    base.and(inStock);
+                } else {
+                    base.andNot(inStock);
+                }
+            }
+            if (filter.getMinDiscount() != null) {
+                retain(base, entry -> entry.getDiscountPercent() != null
+                        && entry.getDiscountPercent() >= filter.getMinDiscount());
+            }
+
+            BitSet priced = (BitSet) base.clone();
+            if (filter.getMinPrice() != null || filter.getMaxPrice() != null) {
+                retain(priced, entry -> entry.getSellingPrice() != null
+                        && (filter.getMinPrice() == null || entry.getSellingPrice() >= filter.getMinPrice())
+                        && (filter.getMaxPrice() == null || entry.getSellingPrice() <= filter.getMaxPrice()));
+            }
+
+            BitSet brandMask = union(brands, filter.getBrands());
+            BitSet colorMask = union(colors, filter.getColors());
+            BitSet sizeMask = union(sizes, filter.getSizes());
+
+            return ProductFacets.builder()
+                    .total(intersect(priced, brandMask, colorMask, sizeMask).cardinality())
+                    .brands(countByValue(brands, intersect(priced, colorMask, sizeMask)))
+                    .colors(countByValue(colors, intersect(priced, brandMask, sizeMask)))
+                    .sizes(countByValue(sizes, intersect(priced, brandMask, colorMask)))
+                    .priceRanges(countPriceRanges(intersect(base, brandMask, colorMask, sizeMask)))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int allocateSlot(UUID productId) {
+        int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.pop();
+        } else {
+            slot = nextSlot++;
+            if (slot == entries.length) {
+                entries = Arrays.copyOf(entries, entries.length * 2);
+            }
+        }
+        slots.put(productId, slot);
+        return slot;
+    }
+
+    private void removeSlot(UUID productId) {
+        Integer slot = slots.remove(productId);
+        if (slot == null) {
+            return;
+        }
+        unindex(slot, entries[slot]);
+        entries[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private void index(int slot, ProductFacetEntry entry) {
+        entries[slot] = entry;
+        live.set(slot);
+        if (Boolean.TRUE.equals(entry.getInStock())) {
+            inStock.set(slot);
+        }
+        setBit(categories, entry.getCategoryId(), slot);
+        setBit(brands, entry.getBrand(), slot);
+        setBit(colors, entry.getColor(), slot);
+        setBit(sizes, entry.getSize(), slot);
+        setBit(priceBuckets, priceLabel(entry.getSellingPrice()), slot);
+    }
+
+    private void unindex(int slot, ProductFacetEntry entry) {
+        live.clear(slot);
+        inStock.clear(slot);
+        clearBit(categories, entry.getCategoryId(), slot);
+        clearBit(brands, entry.getBrand(), slot);
+        clearBit(colors, entry.getColor(), slot);
+        clearBit(sizes, entry.getSize(), slot);
+        clearBit(priceBuckets, priceLabel(entry.getSellingPrice()), slot);
+    }
+
+    private String priceLabel(Integer price) {
+        if (price == null) {
+            return null;
+        }
+        int bucket = Arrays.binarySearch(priceBounds, price);
+        if (bucket < 0) {
+            bucket = Math.max(-bucket - 2, 0);
+        }
+        return priceLabels[bucket];
+    }
+
+    private void retain(BitSet bits, Predicate<ProductFacetEntry> predicate) {
+        for (int slot = bits.nextSetBit(0); slot >= 0; slot = bits.nextSetBit(slot + 1)) {
+            if (!predicate.test(entries[slot])) {
+                bits.clear(slot);
+            }
+        }
+    }
+
+    private Map<String, Long> countByValue(Map<String, BitSet> values, BitSet scope) {
+        BitSet scratch = new BitSet();
+        List<Map.Entry<String, Long>> counts = new ArrayList<>();
+        values.forEach((value, bits) -> {
+            long count = intersectionCount(scratch, bits, scope);
+            if (count > 0) {
+                counts.add(Map.entry(value, count));
+            }
+        });
+        counts.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        return toOrderedMap(counts);
+    }
+
+    private Map<String, Long> countPriceRanges(BitSet scope) {
+        BitSet scratch = new BitSet();
+        List<Map.Entry<String, Long>> counts = new ArrayList<>();
+        for (String label : priceLabels) {
+            BitSet bits = priceBuckets.get(label);
+            long count = bits == null ? 0 : intersectionCount(scratch, bits, scope);
+            if (count > 0) {
+                counts.add(Map.entry(label, count));
+            }
+        }
+        return toOrderedMap(counts);
+    }
+
+    private static long intersectionCount(BitSet scratch, BitSet bits, BitSet scope) {
+        scratch.clear();
+        scratch.or(bits);
+        scratch.and(scope);
+        return scratch.cardinality();
+    }
+
+    private static Map<String, Long> toOrderedMap(List<Map.Entry<String, Long>> counts) {
+        Map<String, Long> ordered = new LinkedHashMap<>();
+        counts.forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+        return ordered;
+    }
+
+    private static BitSet union(Map<String, BitSet> values, Collection<String> selected) {
+        if (selected == null || selected.isEmpty()) {
+            return null;
+        }
+        BitSet mask = new BitSet();
+        for (String value : selected) {
+            BitSet bits = values.get(value);
+            if (bits != null) {
+                mask.or(bits);
+            }
+        }
+        return mask;
+    }
+
+    private static BitSet intersect(BitSet scope, BitSet... masks) {
+        BitSet result = (BitSet) scope.clone();
+        for (BitSet mask : masks) {
+            if (mask != null) {
+                result.and(mask);
+            }
+        }
+        return result;
+    }
+
+    private static void setBit(Map<String, BitSet> values, String value, int slot) {
+        if (value != null) {
+            values.computeIfAbsent(value, v -> new BitSet()).set(slot);
+        }
+    }
+
+    private static void clearBit(Map<String, BitSet> values, String value, int slot) {
+        if (value == null) {
+            return;
+        }
+        BitSet bits = values.get(value);
+        if (bits != null) {
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                values.remove(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.mygitgor.product_service.facet;
+
+import com.mygitgor.product_service.event.ProductChangedEvent;
+import com.mygitgor.product_service.event.RemoteProductChangedEvent;
+import com.mygitgor.product_service.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFacetIndexer {
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final ProductFacetIndex facetIndex;
+    private final ProductRepository productRepository;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Value("${product.facets.rebuild-batch-size:5000}")
+    private int rebuildBatchSize;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(event.getProductIds());
+    }
+
+    @EventListener
+    public void onRemoteProductChanged(RemoteProductChangedEvent event) {
+        apply(event.getProductIds());
+    }
+
+    private void apply(List<UUID> productIds) {
+        try {
+            List<ProductFacetEntry> entries = productRepository.findFacetEntriesByIdIn(productIds);
+            Set<UUID> removed = new HashSet<>(productIds);
+            entries.forEach(entry -> removed.remove(entry.getId()));
+
+            facetIndex.apply(entries);
+            if (!removed.isEmpty()) {
+                facetIndex.remove(removed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to update facet index for products {}: {}", productIds, e.getMessage());
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${product.facets.rebuild-cron:0 45 3 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("Facet index rebuild already running");
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            facetIndex.beginRebuild();
+            UUID lastId = MIN_ID;
+            List<ProductFacetEntry> batch;
+            do {
+                batch = productRepository.findFacetEntries(lastId, Limit.of(rebuildBatchSize));
+                facetIndex.apply(batch);
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == rebuildBatchSize);
+            facetIndex.finishRebuild();
+            log.info("Loaded facet index with {} products in {} ms",
+                    facetIndex.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Facet index rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+}
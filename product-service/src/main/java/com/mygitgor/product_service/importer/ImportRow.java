@@ -0,0 +1,18 @@
+package com.mygitgor.product_service.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * One raw record from an import file. {@code parseError} is set instead of {@code values}
+ * when the record itself could not be read.
+ */
+@Getter
+@AllArgsConstructor
+public class ImportRow {
+    private final long rowNumber;
+    private final Map<String, Object> values;
+    private final String parseError;
+}
@@ -0,0 +1,122 @@
+package com.mygitgor.product_service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.mygitgor.product_service.domain.ImportFormat;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads an import file one record at a time, so memory stays flat regardless of file size.
+ * A malformed NDJSON line only fails that row; a structurally broken CSV fails the whole file.
+ */
+public class ProductImportReader implements Closeable {
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final ObjectMapper objectMapper;
+    private final CountingInputStream input;
+    private final BufferedReader lines;
+    private final MappingIterator<Map<String, String>> records;
+    private long rowNumber;
+
+    public ProductImportReader(Path file, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.input = new CountingInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        if (format == ImportFormat.CSV) {
+            this.lines = null;
+            this.records = CSV_MAPPER.readerForMapOf(String.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(input);
+        } else {
+            this.lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            this.records = null;
+        }
+    }
+
+    /**
+     * @return the next record, or {@code null} at the end of the file
+     */
+    public ImportRow next() throws IOException {
+        return records != null ? nextCsv() : nextJson();
+    }
+
+    public long bytesRead() {
+        return input.count;
+    }
+
+    private ImportRow nextCsv() {
+        if (!records.hasNext()) {
+            return null;
+        }
+        Map<String, Object> values = new LinkedHashMap<>(records.next());
+        return new ImportRow(++rowNumber, values, null);
+    }
+
+    private ImportRow nextJson() throws IOException {
+        String line;
+        do {
+            line = lines.readLine();
+            if (line == null) {
+                return null;
+            }
+            rowNumber++;
+        } while (line.isBlank());
+
+        try {
+            Map<String, Object> values = objectMapper.readValue(line, objectMapper.getTypeFactory()
+                    .constructMapType(LinkedHashMap.class, String.class, Object.class));
+            return new ImportRow(rowNumber, values, null);
+        } catch (JsonProcessingException e) {
+            return new ImportRow(rowNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (records != null) {
+            records.close();
+        }
+        input.close();
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
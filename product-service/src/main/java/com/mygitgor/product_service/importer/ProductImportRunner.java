@@ -0,0 +1,175 @@
+package com.mygitgor.product_service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mygitgor.product_service.domain.Category;
+import com.mygitgor.product_service.domain.ImportJobStatus;
+import com.mygitgor.product_service.domain.Product;
+import com.mygitgor.product_service.domain.ProductImportError;
+import com.mygitgor.product_service.domain.ProductImportJob;
+import com.mygitgor.product_service.dto.CreateProductRequest;
+import com.mygitgor.product_service.event.ProductChangedEvent;
+import com.mygitgor.product_service.mapper.ProductMapper;
+import com.mygitgor.product_service.repository.CategoryRepository;
+import com.mygitgor.product_service.repository.ProductImportErrorRepository;
+import com.mygitgor.product_service.repository.ProductImportJobRepository;
+import com.mygitgor.product_service.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Runs an import job from its spooled file: rows are read and validated one at a time and every
+ * {@code chunk-size} rows are written in their own transaction as one JDBC batch, together with
+ * the row errors and the job progress. Only the current chunk is held in memory.
+ * <p>
+ * Committed chunks stay imported if the job later fails.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductImportRunner {
+    private final ProductImportJobRepository jobRepository;
+    private final ProductImportErrorRepository errorRepository;
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductMapper productMapper;
+    private final ProductImportValidator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${product.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${product.import.max-stored-errors:1000}")
+    private int maxStoredErrors;
+
+    @Async
+    public void run(UUID jobId, Path file) {
+        try {
+            ProductImportJob job = jobRepository.findById(jobId).orElseThrow();
+            transactionTemplate.executeWithoutResult(status ->
+                    jobRepository.start(jobId, ImportJobStatus.RUNNING, LocalDateTime.now()));
+            Chunk chunk = new Chunk(job, new HashMap<>());
+
+            try (ProductImportReader reader = new ProductImportReader(file, job.getFormat(), objectMapper)) {
+                ImportRow row;
+                while ((row = reader.next()) != null) {
+                    chunk.add(row);
+                    if (chunk.rows == chunkSize) {
+                        write(chunk, reader.bytesRead());
+                        chunk = chunk.next();
+                    }
+                }
+                write(chunk, reader.bytesRead());
+            }
+
+            transactionTemplate.executeWithoutResult(status ->
+                    jobRepository.finish(jobId, ImportJobStatus.COMPLETED, null, LocalDateTime.now()));
+            log.info("Import job {} completed", jobId);
+        } catch (Exception e) {
+            log.error("Import job {} failed: {}", jobId, e.getMessage(), e);
+            String error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            transactionTemplate.executeWithoutResult(status -> jobRepository.finish(jobId, ImportJobStatus.FAILED,
+                    error.length() > 1000 ? error.substring(0, 1000) : error, LocalDateTime.now()));
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete import file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private void write(Chunk chunk, long bytesRead) {
+        if (chunk.rows == 0) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+
+            List<Product> products = chunk.valid.stream().map(request -> toProduct(request, chunk)).toList();
+            productRepository.saveAll(products);
+            errorRepository.saveAll(chunk.errors);
+            jobRepository.recordProgress(chunk.job.getId(), chunk.rows, products.size(), chunk.failed, bytesRead);
+
+            if (!products.isEmpty()) {
+                eventPublisher.publishEvent(new ProductChangedEvent(products.stream().map(Product::getId).toList()));
+            }
+        });
+    }
+
+    private Product toProduct(CreateProductRequest request, Chunk chunk) {
+        Product product = productMapper.toEntityFromCreateRequest(request);
+        product.setSellerId(chunk.job.getSellerId());
+        product.setCategory(resolveCategory(request, chunk.categoryIds));
+        product.applyCreationDefaults();
+        return product;
+    }
+
+    private Category resolveCategory(CreateProductRequest request, Map<String, Optional<UUID>> categoryIds) {
+        return Stream.of(request.getCategory3(), request.getCategory2(), request.getCategory())
+                .filter(categoryId -> categoryId != null && !categoryId.isBlank())
+                .map(categoryId -> categoryIds.computeIfAbsent(categoryId, id ->
+                        categoryRepository.findByCategoryId(id).map(Category::getId)))
+                .flatMap(Optional::stream)
+                .findFirst()
+                .map(categoryRepository::getReferenceById)
+                .orElse(null);
+    }
+
+    private final class Chunk {
+        private final ProductImportJob job;
+        private final Map<String, Optional<UUID>> categoryIds;
+        private final List<CreateProductRequest> valid = new ArrayList<>();
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private int rows;
+        private int failed;
+        private long storedErrors;
+
+        private Chunk(ProductImportJob job, Map<String, Optional<UUID>> categoryIds) {
+            this.job = job;
+            this.categoryIds = categoryIds;
+        }
+
+        private void add(ImportRow row) {
+            rows++;
+            try {
+                valid.add(validator.validate(row));
+            } catch (IllegalArgumentException e) {
+                failed++;
+                if (storedErrors < maxStoredErrors) {
+                    storedErrors++;
+                    errors.add(new ProductImportError(job.getId(), row.getRowNumber(), truncate(e.getMessage())));
+                }
+            }
+        }
+
+        private Chunk next() {
+            Chunk next = new Chunk(job, categoryIds);
+            next.storedErrors = storedErrors;
+            return next;
+        }
+
+        private String truncate(String message) {
+            return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+        }
+    }
+}
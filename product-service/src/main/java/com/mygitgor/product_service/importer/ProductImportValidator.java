@@ -0,0 +1,89 @@
+package com.mygitgor.product_service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mygitgor.product_service.dto.CreateProductRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Turns a raw import row into a {@link CreateProductRequest}, applying the same bean validation
+ * as the single-product endpoint plus price and stock sanity checks.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImportValidator {
+    private static final String LIST_SEPARATOR = "\\|";
+    private static final Set<String> LIST_FIELDS = Set.of("images");
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * @throws IllegalArgumentException describing every problem found in the row
+     */
+    public CreateProductRequest validate(ImportRow row) {
+        if (row.getParseError() != null) {
+            throw new IllegalArgumentException(row.getParseError());
+        }
+
+        CreateProductRequest request;
+        try {
+            request = objectMapper.convertValue(normalize(row.getValues()), CreateProductRequest.class);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unreadable row: " + rootMessage(e));
+        }
+
+        List<String> problems = new ArrayList<>();
+        for (ConstraintViolation<CreateProductRequest> violation : validator.validate(request)) {
+            problems.add(violation.getPropertyPath() + " " + violation.getMessage());
+        }
+        if (request.getQuantity() < 0) {
+            problems.add("quantity must not be negative");
+        }
+        if (request.getMrpPrice() <= 0 || request.getSellingPrice() <= 0) {
+            problems.add("mrpPrice and sellingPrice must be positive");
+        } else if (request.getSellingPrice() > request.getMrpPrice()) {
+            problems.add("sellingPrice must not exceed mrpPrice");
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException(problems.stream().sorted().collect(Collectors.joining("; ")));
+        }
+        return request;
+    }
+
+    private static Map<String, Object> normalize(Map<String, Object> values) {
+        Map<String, Object> normalized = new HashMap<>();
+        values.forEach((key, value) -> {
+            if (key == null || value == null) {
+                return;
+            }
+            String field = key.trim();
+            if (value instanceof String text) {
+                text = text.trim();
+                if (text.isEmpty()) {
+                    return;
+                }
+                value = LIST_FIELDS.contains(field)
+                        ? Arrays.stream(text.split(LIST_SEPARATOR)).map(String::trim).filter(s -> !s.isEmpty()).toList()
+                        : text;
+            }
+            normalized.put(field, value);
+        });
+        return normalized;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        String message = cause.getMessage();
+        int newline = message == null ? -1 : message.indexOf('\n');
+        return newline < 0 ? String.valueOf(message) : message.substring(0, newline);
+    }
+}
@@ -0,0 +1,15 @@
+package com.mygitgor.product_service.mapper;
+
+import com.mygitgor.product_service.domain.Review;
+import com.mygitgor.product_service.dto.ReviewDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ReviewMapper {
+
+    @Mapping(target = "productId", source = "product.id")
+    @Mapping(target = "productTitle", ignore = true)
+    ReviewDto toDto(Review review);
+}
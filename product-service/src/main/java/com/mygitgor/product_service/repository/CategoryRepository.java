@@ -0,0 +1,11 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.domain.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CategoryRepository extends JpaRepository<Category, UUID> {
+    Optional<Category> findByCategoryId(String categoryId);
+}
@@ -0,0 +1,12 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.domain.ProductImportError;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProductImportErrorRepository extends JpaRepository<ProductImportError, UUID> {
+    List<ProductImportError> findByJobIdOrderByRowNumberAsc(UUID jobId, Limit limit);
+}
@@ -0,0 +1,48 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.domain.ImportJobStatus;
+import com.mygitgor.product_service.domain.ProductImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ProductImportJobRepository extends JpaRepository<ProductImportJob, UUID> {
+
+    @Modifying
+    @Query("""
+            UPDATE ProductImportJob j
+            SET j.status = :status, j.startedAt = :now
+            WHERE j.id = :id AND j.status = com.mygitgor.product_service.domain.ImportJobStatus.PENDING
+            """)
+    int start(@Param("id") UUID id, @Param("status") ImportJobStatus status, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE ProductImportJob j
+            SET j.processedRows = j.processedRows + :processed,
+                j.importedRows = j.importedRows + :imported,
+                j.failedRows = j.failedRows + :failed,
+                j.processedBytes = :bytes
+            WHERE j.id = :id
+            """)
+    int recordProgress(@Param("id") UUID id,
+                       @Param("processed") long processed,
+                       @Param("imported") long imported,
+                       @Param("failed") long failed,
+                       @Param("bytes") long bytes);
+
+    @Modifying
+    @Query("""
+            UPDATE ProductImportJob j
+            SET j.status = :status, j.error = :error, j.finishedAt = :now
+            WHERE j.id = :id
+            """)
+    int finish(@Param("id") UUID id,
+               @Param("status") ImportJobStatus status,
+               @Param("error") String error,
+               @Param("now") LocalDateTime now);
+}
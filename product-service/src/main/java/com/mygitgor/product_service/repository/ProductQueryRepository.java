@@ -0,0 +1,11 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.domain.Product;
+import com.mygitgor.product_service.dto.ProductDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface ProductQueryRepository {
+    Page<ProductDto> findProductPage(Specification<Product> specification, Pageable pageable);
+}
@@ -0,0 +1,125 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.domain.Product;
+import com.mygitgor.product_service.dto.ProductDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Listing queries that select only the columns a product card needs instead of hydrating
+ * {@link Product} entities. Images are loaded for the whole page in one follow-up query.
+ */
+public class ProductQueryRepositoryImpl implements ProductQueryRepository {
+    private static final List<String> COLUMNS = List.of(
+            "id", "title", "quantity", "mrpPrice", "sellingPrice", "discountPercent", "color", "size",
+            "numRatings", "averageRating", "reviewCount", "sellerId", "brand", "sku", "active", "approved",
+            "inStock", "featured", "minOrderQuantity", "maxOrderQuantity", "createdAt", "updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProductDto> findProductPage(Specification<Product> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        query.multiselect(COLUMNS.stream().<Selection<?>>map(column -> root.get(column).alias(column)).toList());
+        applyWhere(specification, root, query, cb);
+        query.orderBy(toOrders(pageable.getSort(), root, cb));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        List<ProductDto> products = rows.stream().map(this::toDto).toList();
+        attachImages(products);
+
+        return new PageImpl<>(products, pageable, count(specification, pageable, products.size()));
+    }
+
+    private long count(Specification<Product> specification, Pageable pageable, int pageContentSize) {
+        if (pageable.getOffset() == 0 && pageContentSize < pageable.getPageSize()) {
+            return pageContentSize;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.count(root));
+        applyWhere(specification, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void attachImages(List<ProductDto> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        Map<UUID, ProductDto> byId = new HashMap<>();
+        products.forEach(product -> {
+            product.setImages(new ArrayList<>());
+            byId.put(product.getId(), product);
+        });
+
+        entityManager.createQuery(
+                        "SELECT p.id, i FROM Product p JOIN p.images i WHERE p.id IN :ids", Object[].class)
+                .setParameter("ids", byId.keySet())
+                .getResultList()
+                .forEach(row -> byId.get((UUID) row[0]).getImages().add((String) row[1]));
+    }
+
+    private void applyWhere(Specification<Product> specification, Root<Product> root,
+                            CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    private List<Order> toOrders(Sort sort, Root<Product> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<?> path = root.get(order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        orders.add(cb.asc(root.get("id")));
+        return orders;
+    }
+
+    private ProductDto toDto(Tuple row) {
+        return ProductDto.builder()
+                .id(row.get("id", UUID.class))
+                .title(row.get("title", String.class))
+                .quantity(row.get("quantity", Integer.class))
+                .mrpPrice(row.get("mrpPrice", Integer.class))
+                .sellingPrice(row.get("sellingPrice", Integer.class))
+                .discountPercent(row.get("discountPercent", Integer.class))
+                .color(row.get("color", String.class))
+                .size(row.get("size", String.class))
+                .numRatings(row.get("numRatings", Integer.class))
+                .averageRating(row.get("averageRating", Double.class))
+                .reviewCount(row.get("reviewCount", Integer.class))
+                .sellerId(row.get("sellerId", UUID.class))
+                .brand(row.get("brand", String.class))
+                .sku(row.get("sku", String.class))
+                .active(row.get("active", Boolean.class))
+                .approved(row.get("approved", Boolean.class))
+                .inStock(row.get("inStock", Boolean.class))
+                .featured(row.get("featured", Boolean.class))
+                .minOrderQuantity(row.get("minOrderQuantity", Integer.class))
+                .maxOrderQuantity(row.get("maxOrderQuantity", Integer.class))
+                .createdAt(row.get("createdAt", LocalDateTime.class))
+                .updatedAt(row.get("updatedAt", LocalDateTime.class))
+                .build();
+    }
+}
@@ -1,9 +1,194 @@
 package com.mygitgor.product_service.repository;
 
 import com.mygitgor.product_service.domain.Product;
+import com.mygitgor.product_service.dto.RatingSummary;
+import com.mygitgor.product_service.dto.client.ProductOwnership;
+import com.mygitgor.product_service.facet.ProductFacetEntry;
+import com.mygitgor.product_service.suggest.ProductSuggestSource;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface ProductRepository extends JpaRepository<Product, UUID> {
+public interface ProductRepository extends JpaRepository<Product, UUID>, ProductQueryRepository {
+    String RECALCULATE_MISSING_RATINGS = """
+            UPDATE products p
+            SET rating_sum = COALESCE(r.rating_sum, 0),
+                review_count = COALESCE(r.review_count, 0),
+                average_rating = CASE WHEN r.review_count > 0 THEN r.rating_sum / r.review_count ELSE 0 END,
+                one_star_count = COALESCE(r.one_star_count, 0),
+                two_star_count = COALESCE(r.two_star_count, 0),
+                three_star_count = COALESCE(r.three_star_count, 0),
+                four_star_count = COALESCE(r.four_star_count, 0),
+                five_star_count = COALESCE(r.five_star_count, 0)
+            FROM products target
+            LEFT JOIN (
+                SELECT rv.product_id,
+                       SUM(rv.rating) AS rating_sum,
+                       COUNT(*) AS review_count,
+                       SUM(CASE WHEN FLOOR(rv.rating + 0.5) <= 1 THEN 1 ELSE 0 END) AS one_star_count,
+                       SUM(CASE WHEN FLOOR(rv.rating + 0.5) = 2 THEN 1 ELSE 0 END) AS two_star_count,
+                       SUM(CASE WHEN FLOOR(rv.rating + 0.5) = 3 THEN 1 ELSE 0 END) AS three_star_count,
+                       SUM(CASE WHEN FLOOR(rv.rating + 0.5) = 4 THEN 1 ELSE 0 END) AS four_star_count,
+                       SUM(CASE WHEN FLOOR(rv.rating + 0.5) >= 5 THEN 1 ELSE 0 END) AS five_star_count
+                FROM reviews rv
+                WHERE rv.status = 'ACTIVE' AND rv.approved = TRUE
+                GROUP BY rv.product_id
+            ) r ON r.product_id = target.id
+            WHERE p.id = target.id AND p.rating_sum IS NULL
+            """;
+
+    @EntityGraph(attributePaths = "images")
+    List<Product> findAllByIdIn(Collection<UUID> ids);
+
+    @EntityGraph(attributePaths = "images")
+    List<Product> findByActiveTrueAndIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    @Query("""
+            SELECT new com.mygitgor.product_service.dto.client.ProductOwnership(p.id, p.sellerId, p.active, p.quantity)
+            FROM Product p
+            WHERE p.id = :id
+            """)
+    Optional<ProductOwnership> findOwnershipById(@Param("id") UUID id);
+
+    @Query("""
+            SELECT new com.mygitgor.product_service.dto.client.ProductOwnership(p.id, p.sellerId, p.active, p.quantity)
+            FROM Product p
+            WHERE p.id IN :ids
+            """)
+    List<ProductOwnership> findOwnershipByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            SELECT new com.mygitgor.product_service.facet.ProductFacetEntry(
+                p.id, c.categoryId, p.brand, p.color, p.size, p.sellingPrice, p.discountPercent, p.inStock)
+            FROM Product p LEFT JOIN p.category c
+            WHERE p.active = true AND p.id > :after
+            ORDER BY p.id
+            """)
+    List<ProductFacetEntry> findFacetEntries(@Param("after") UUID after, Limit limit);
+
+    @Query("""
+            SELECT new com.mygitgor.product_service.facet.ProductFacetEntry(
+                p.id, c.categoryId, p.brand, p.color, p.size, p.sellingPrice, p.discountPercent, p.inStock)
+            FROM Product p LEFT JOIN p.category c
+            WHERE p.active = true AND p.id IN :ids
+            """)
+    List<ProductFacetEntry> findFacetEntriesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            SELECT new com.mygitgor.product_service.suggest.ProductSuggestSource(
+                p.id, p.title, p.brand, c.name, p.reviewCount)
+            FROM Product p LEFT JOIN p.category c
+            WHERE p.active = true AND p.id > :after
+            ORDER BY p.id
+            """)
+    List<ProductSuggestSource> findSuggestSources(@Param("after") UUID after, Limit limit);
+
+    @Query("""
+            SELECT new com.mygitgor.product_service.suggest.ProductSuggestSource(
+                p.id, p.title, p.brand, c.name, p.reviewCount)
+            FROM Product p LEFT JOIN p.category c
+            WHERE p.active = true AND p.id IN :ids
+            """)
+    List<ProductSuggestSource> findSuggestSourcesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query(value = """
+            UPDATE products
+            SET quantity = quantity - :quantity,
+                in_stock = quantity - :quantity > 0,
+                updated_at = now()
+            WHERE id = :productId AND active = true AND quantity >= :quantity
+            """, nativeQuery = true)
+    int reserveStock(@Param("productId") UUID productId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = """
+            UPDATE products
+            SET quantity = quantity + :quantity,
+                in_stock = true,
+                updated_at = now()
+            WHERE id = :productId
+            """, nativeQuery = true)
+    int restoreStock(@Param("productId") UUID productId, @Param("quantity") int quantity);
+
+    @Query("""
+            SELECT new com.mygitgor.product_service.dto.RatingSummary(
+                p.id, p.averageRating, p.reviewCount,
+                p.oneStarCount, p.twoStarCount, p.threeStarCount, p.fourStarCount, p.fiveStarCount)
+            FROM Product p
+            WHERE p.id = :id
+            """)
+    Optional<RatingSummary> findRatingSummary(@Param("id") UUID id);
+
+    /**
+     * Adds ({@code delta = 1}) or removes ({@code delta = -1}) one visible review from the
+     * product's rating aggregates. Every assignment reads the pre-update row values.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE products
+            SET rating_sum = COALESCE(rating_sum, 0) + :delta * :rating,
+                review_count = COALESCE(review_count, 0) + :delta,
+                average_rating = CASE WHEN COALESCE(review_count, 0) + :delta > 0
+                    THEN (COALESCE(rating_sum, 0) + :delta * :rating) / (COALESCE(review_count, 0) + :delta)
+                    ELSE 0 END,
+                one_star_count = COALESCE(one_star_count, 0) + CASE WHEN :stars = 1 THEN :delta ELSE 0 END,
+                two_star_count = COALESCE(two_star_count, 0) + CASE WHEN :stars = 2 THEN :delta ELSE 0 END,
+                three_star_count = COALESCE(three_star_count, 0) + CASE WHEN :stars = 3 THEN :delta ELSE 0 END,
+                four_star_count = COALESCE(four_star_count, 0) + CASE WHEN :stars = 4 THEN :delta ELSE 0 END,
+                five_star_count = COALESCE(five_star_count, 0) + CASE WHEN :stars = 5 THEN :delta ELSE 0 END
+            WHERE id = :productId
+            """, nativeQuery = true)
+    int applyRating(@Param("productId") UUID productId,
+                    @Param("rating") double rating,
+                    @Param("stars") int stars,
+                    @Param("delta") int delta);
+
+    /**
+     * Rebuilds the rating aggregates of one product from its visible reviews, but only while they
+     * have never been initialised. Pending changes are flushed first so the current review counts.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = RECALCULATE_MISSING_RATINGS + " AND p.id = :productId", nativeQuery = true)
+    int recalculateMissingRatings(@Param("productId") UUID productId);
+
+    @Modifying
+    @Query(value = RECALCULATE_MISSING_RATINGS, nativeQuery = true)
+    int recalculateAllMissingRatings();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT p.id AS id, p.active AS active
+            FROM Product p
+            WHERE p.id IN :ids AND p.sellerId = :sellerId
+            ORDER BY p.id
+            """)
+    List<ProductStatusRow> lockStatusRows(@Param("ids") Collection<UUID> ids, @Param("sellerId") UUID sellerId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE Product p
+            SET p.active = :active, p.updatedAt = :now
+            WHERE p.id IN :ids AND p.sellerId = :sellerId
+            """)
+    int updateActive(@Param("ids") Collection<UUID> ids,
+                     @Param("sellerId") UUID sellerId,
+                     @Param("active") boolean active,
+                     @Param("now") LocalDateTime now);
+
+    interface ProductStatusRow {
+        UUID getId();
+        Boolean getActive();
+    }
 }
@@ -0,0 +1,79 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.domain.Category;
+import com.mygitgor.product_service.domain.Product;
+import com.mygitgor.product_service.dto.ProductFilter;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    public static Specification<Product> matching(ProductFilter filter) {
+        return Specification.allOf(
+                isActive(),
+                inCategory(filter.getCategory()),
+                attributeIn("brand", filter.getBrands()),
+                attributeIn("color", filter.getColors()),
+                attributeIn("size", filter.getSizes()),
+                priceAtLeast(filter.getMinPrice()),
+                priceAtMost(filter.getMaxPrice()),
+                discountAtLeast(filter.getMinDiscount()),
+                stock(filter.getInStock())
+        );
+    }
+
+    public static Specification<Product> isActive() {
+        return (root, query, cb) -> cb.isTrue(root.get("active"));
+    }
+
+    public static Specification<Product> inCategory(String categoryId) {
+        if (categoryId == null || categoryId.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Join<Product, Category> category = root.join("category", JoinType.INNER);
+            return cb.equal(category.get("categoryId"), categoryId);
+        };
+    }
+
+    public static Specification<Product> attributeIn(String attribute, Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get(attribute).in(values);
+    }
+
+    public static Specification<Product> priceAtLeast(Integer minPrice) {
+        if (minPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("sellingPrice"), minPrice);
+    }
+
+    public static Specification<Product> priceAtMost(Integer maxPrice) {
+        if (maxPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("sellingPrice"), maxPrice);
+    }
+
+    public static Specification<Product> discountAtLeast(Integer minDiscount) {
+        if (minDiscount == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("discountPercent"), minDiscount);
+    }
+
+    public static Specification<Product> stock(Boolean inStock) {
+        if (inStock == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("inStock"), inStock);
+    }
+}
@@ -0,0 +1,36 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.domain.ReviewHelpfulVote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReviewHelpfulVoteRepository extends JpaRepository<ReviewHelpfulVote, ReviewHelpfulVote.Key> {
+
+    /**
+     * @return 1 if the vote was recorded, 0 if the user had already voted
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO review_helpful_votes (review_id, user_id, created_at)
+            VALUES (:reviewId, :userId, now())
+            ON CONFLICT (review_id, user_id) DO NOTHING
+            """, nativeQuery = true)
+    int addVote(@Param("reviewId") UUID reviewId, @Param("userId") String userId);
+
+    @Modifying
+    @Query("DELETE FROM ReviewHelpfulVote v WHERE v.id.reviewId = :reviewId AND v.id.userId = :userId")
+    int removeVote(@Param("reviewId") UUID reviewId, @Param("userId") String userId);
+
+    @Modifying
+    @Query("DELETE FROM ReviewHelpfulVote v WHERE v.id.reviewId = :reviewId")
+    int deleteByReviewId(@Param("reviewId") UUID reviewId);
+
+    @Query("SELECT v.id.reviewId FROM ReviewHelpfulVote v WHERE v.id.userId = :userId AND v.id.reviewId IN :reviewIds")
+    List<UUID> findVotedReviewIds(@Param("userId") String userId, @Param("reviewIds") Collection<UUID> reviewIds);
+}
@@ -0,0 +1,43 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.domain.Review;
+import com.mygitgor.product_service.domain.ReviewStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReviewRepository extends JpaRepository<Review, UUID> {
+
+    Window<Review> findByProduct_IdAndStatusAndApprovedTrue(UUID productId, ReviewStatus status,
+                                                           ScrollPosition position, Sort sort, Limit limit);
+
+    @Query("SELECT r.helpfulCount FROM Review r WHERE r.id = :id")
+    Optional<Integer> findHelpfulCount(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE Review r SET r.helpfulCount = r.helpfulCount + :delta WHERE r.id = :id")
+    int adjustHelpfulCount(@Param("id") UUID id, @Param("delta") int delta);
+
+    @Modifying
+    @Query("""
+            UPDATE Review r
+            SET r.status = :to, r.approved = :approved, r.moderatedAt = :now, r.moderatorNotes = :notes
+            WHERE r.id = :id AND r.status = :from AND COALESCE(r.approved, false) = :wasApproved
+            """)
+    int moderate(@Param("id") UUID id,
+                 @Param("from") ReviewStatus from,
+                 @Param("wasApproved") boolean wasApproved,
+                 @Param("to") ReviewStatus to,
+                 @Param("approved") boolean approved,
+                 @Param("notes") String notes,
+                 @Param("now") LocalDateTime now);
+}
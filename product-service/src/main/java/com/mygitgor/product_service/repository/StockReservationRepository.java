@@ -0,0 +1,42 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.domain.ReservationStatus;
+import com.mygitgor.product_service.domain.StockReservation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, UUID> {
+    Optional<StockReservation> findByReferenceId(String referenceId);
+
+    @Modifying
+    @Query("""
+            UPDATE StockReservation r
+            SET r.status = :to, r.updatedAt = :now
+            WHERE r.id = :id AND r.status = :from
+            """)
+    int transition(@Param("id") UUID id,
+                   @Param("from") ReservationStatus from,
+                   @Param("to") ReservationStatus to,
+                   @Param("now") LocalDateTime now);
+
+    @Query("SELECT r.id FROM StockReservation r WHERE r.status = :status AND r.expiresAt < :cutoff ORDER BY r.expiresAt")
+    List<UUID> findExpiredIds(@Param("status") ReservationStatus status,
+                              @Param("cutoff") LocalDateTime cutoff,
+                              Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM StockReservation r WHERE r.id IN :ids AND r.status = :status AND r.expiresAt < :cutoff")
+    List<StockReservation> lockExpired(@Param("ids") Collection<UUID> ids,
+                                       @Param("status") ReservationStatus status,
+                                       @Param("cutoff") LocalDateTime cutoff);
+}
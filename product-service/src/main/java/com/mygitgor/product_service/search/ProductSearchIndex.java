@@ -0,0 +1,213 @@
+package com.mygitgor.product_service.search;
+
+import com.mygitgor.product_service.domain.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.Directory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded Lucene index over the searchable product text. Only the product id is stored;
+ * callers load the ranked products from the database.
+ */
+public class ProductSearchIndex implements Closeable {
+    static final String ID = "id";
+    static final String GENERATION = "generation";
+    static final String TITLE = "title";
+    static final String BRAND = "brand";
+    static final String TAGS = "tags";
+    static final String META_TITLE = "metaTitle";
+    static final String DESCRIPTION = "description";
+
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            TITLE, 4.0f,
+            BRAND, 3.0f,
+            TAGS, 2.0f,
+            META_TITLE, 1.5f,
+            DESCRIPTION, 1.0f
+    );
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+
+    public ProductSearchIndex(Directory directory) throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setSimilarity(new BM25Similarity())
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public void index(Product product) {
+        if (!Boolean.TRUE.equals(product.getActive())) {
+            delete(List.of(product.getId()));
+            return;
+        }
+        try {
+            writer.updateDocument(idTerm(product.getId()), toDocument(product));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Collection<UUID> productIds) {
+        try {
+            writer.deleteDocuments(productIds.stream().map(ProductSearchIndex::idTerm).toArray(Term[]::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Starts a rebuild: documents written from now on carry a new generation, so the
+     * previous index stays searchable until {@link #finishRebuild(long)} drops the stale ones.
+     */
+    public long beginRebuild() {
+        return generation.incrementAndGet();
+    }
+
+    public void finishRebuild(long rebuildGeneration) {
+        Query stale = new BooleanQuery.Builder()
+                .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(GENERATION, Long.toString(rebuildGeneration))), BooleanClause.Occur.MUST_NOT)
+                .build();
+        try {
+            writer.deleteDocuments(stale);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Hits search(String text, int offset, int limit) {
+        if (text == null || text.isBlank() || limit <= 0) {
+            return new Hits(List.of(), 0);
+        }
+
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query query = parser.parse(text);
+        if (query == null) {
+            return new Hits(List.of(), 0);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                searcher.setSimilarity(new BM25Similarity());
+                TopDocs top = searcher.search(query, offset + limit);
+                List<UUID> ids = new ArrayList<>(limit);
+                ScoreDoc[] scoreDocs = top.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    Document doc = searcher.storedFields().document(scoreDocs[i].doc, Set.of(ID));
+                    ids.add(UUID.fromString(doc.get(ID)));
+                }
+                return new Hits(ids, top.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int size() {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        analyzer.close();
+    }
+
+    private static Term idTerm(UUID productId) {
+        return new Term(ID, productId.toString());
+    }
+
+    private Document toDocument(Product product) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, product.getId().toString(), Field.Store.YES));
+        doc.add(new StringField(GENERATION, Long.toString(generation.get()), Field.Store.NO));
+        addText(doc, TITLE, product.getTitle());
+        addText(doc, BRAND, product.getBrand());
+        addText(doc, META_TITLE, product.getMetaTitle());
+        addText(doc, DESCRIPTION, product.getDescription());
+        if (product.getTags() != null) {
+            product.getTags().forEach(tag -> addText(doc, TAGS, tag));
+        }
+        return doc;
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hits {
+        private final List<UUID> productIds;
+        private final long total;
+    }
+}
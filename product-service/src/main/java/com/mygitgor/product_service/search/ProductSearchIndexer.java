@@ -0,0 +1,113 @@
+package com.mygitgor.product_service.search;
+
+import com.mygitgor.product_service.domain.Product;
+import com.mygitgor.product_service.event.ProductChangedEvent;
+import com.mygitgor.product_service.event.RemoteProductChangedEvent;
+import com.mygitgor.product_service.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexer {
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final ProductSearchIndex searchIndex;
+    private final ProductRepository productRepository;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Value("${product.search.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(event.getProductIds());
+    }
+
+    @EventListener
+    public void onRemoteProductChanged(RemoteProductChangedEvent event) {
+        apply(event.getProductIds());
+    }
+
+    private void apply(List<UUID> productIds) {
+        try {
+            List<Product> products = productRepository.findAllByIdIn(productIds);
+            Set<UUID> missing = new HashSet<>(productIds);
+            for (Product product : products) {
+                searchIndex.index(product);
+                missing.remove(product.getId());
+            }
+            if (!missing.isEmpty()) {
+                searchIndex.delete(missing);
+            }
+            searchIndex.refresh();
+        } catch (Exception e) {
+            log.error("Failed to update search index for products {}: {}", productIds, e.getMessage());
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (searchIndex.size() == 0) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${product.search.rebuild-cron:0 30 3 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${product.search.commit-interval-ms:5000}")
+    public void commit() {
+        searchIndex.commit();
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("Search index rebuild already running");
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            long generation = searchIndex.beginRebuild();
+            int indexed = 0;
+            UUID lastId = MIN_ID;
+            List<Product> batch;
+            do {
+                batch = productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(lastId, Limit.of(rebuildBatchSize));
+                batch.forEach(searchIndex::index);
+                indexed += batch.size();
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == rebuildBatchSize);
+
+            searchIndex.finishRebuild(generation);
+            searchIndex.commit();
+            searchIndex.refresh();
+            log.info("Rebuilt search index with {} products in {} ms", indexed, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Search index rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.mygitgor.product_service.service;
+
+import com.mygitgor.product_service.domain.ImportFormat;
+import com.mygitgor.product_service.dto.ProductImportJobDto;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface ProductImportService {
+    ProductImportJobDto startImport(UUID sellerId, ImportFormat format, InputStream content);
+    ProductImportJobDto getImportJob(UUID jobId);
+}
@@ -0,0 +1,121 @@
+package com.mygitgor.product_service.service;
+
+import com.mygitgor.product_service.domain.ImportFormat;
+import com.mygitgor.product_service.domain.ImportJobStatus;
+import com.mygitgor.product_service.domain.ProductImportJob;
+import com.mygitgor.product_service.dto.ImportRowError;
+import com.mygitgor.product_service.dto.ProductImportJobDto;
+import com.mygitgor.product_service.importer.ProductImportRunner;
+import com.mygitgor.product_service.repository.ProductImportErrorRepository;
+import com.mygitgor.product_service.repository.ProductImportJobRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spools the uploaded file to disk so the request can return immediately, then hands it to
+ * {@link ProductImportRunner}. The upload is never buffered in memory.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportServiceImpl implements ProductImportService {
+    private final ProductImportJobRepository jobRepository;
+    private final ProductImportErrorRepository errorRepository;
+    private final ProductImportRunner importRunner;
+
+    @Value("${product.import.reported-errors:100}")
+    private int reportedErrors;
+
+    @Override
+    public ProductImportJobDto startImport(UUID sellerId, ImportFormat format, InputStream content) {
+        Path file;
+        try {
+            file = Files.createTempFile("product-import-", "." + format.name().toLowerCase());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create import file", e);
+        }
+
+        try {
+            long size = Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+            if (size == 0) {
+                throw new IllegalArgumentException("Import file is empty");
+            }
+
+            ProductImportJob job = jobRepository.save(ProductImportJob.pending(sellerId, format, size));
+            log.info("Import job {} accepted for seller {}: {} bytes of {}", job.getId(), sellerId, size, format);
+            importRunner.run(job.getId(), file);
+            return toDto(job, List.of());
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("Failed to store import file", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    @Override
+    public ProductImportJobDto getImportJob(UUID jobId) {
+        ProductImportJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException(String.format(
+                        "import job with id '%s' not found", jobId)));
+        List<ImportRowError> errors = errorRepository.findByJobIdOrderByRowNumberAsc(jobId, Limit.of(reportedErrors))
+                .stream()
+                .map(error -> new ImportRowError(error.getRowNumber(), error.getMessage()))
+                .toList();
+        return toDto(job, errors);
+    }
+
+    private static ProductImportJobDto toDto(ProductImportJob job, List<ImportRowError> errors) {
+        return ProductImportJobDto.builder()
+                .id(job.getId())
+                .sellerId(job.getSellerId())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .progressPercent(progressPercent(job))
+                .processedRows(job.getProcessedRows())
+                .importedRows(job.getImportedRows())
+                .failedRows(job.getFailedRows())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .errors(errors)
+                .build();
+    }
+
+    private static int progressPercent(ProductImportJob job) {
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            return 100;
+        }
+        if (job.getSizeBytes() <= 0) {
+            return 0;
+        }
+        // Bytes are counted at the reader, which buffers ahead, so cap below 100 until the job completes.
+        return (int) Math.min(99, job.getProcessedBytes() * 100 / job.getSizeBytes());
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete import file {}: {}", file, e.getMessage());
+        }
+    }
+}
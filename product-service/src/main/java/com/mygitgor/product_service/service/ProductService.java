@@ -2,30 +2,35 @@ package com.mygitgor.product_service.service;
 
 import com.mygitgor.product_service.dto.CreateProductRequest;
 import com.mygitgor.product_service.dto.ProductDto;
+import com.mygitgor.product_service.dto.ProductFacets;
+import com.mygitgor.product_service.dto.ProductFilter;
+import com.mygitgor.product_service.dto.ProductSuggestion;
+import com.mygitgor.product_service.dto.client.BulkStatusUpdateResponse;
+import com.mygitgor.product_service.dto.client.ProductOwnership;
+import com.mygitgor.product_service.dto.client.StockValidationResponse;
 import org.springframework.data.domain.Page;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface ProductService {
     Boolean existProductById(UUID productId);
     ProductDto getProductById(UUID productId);
+    List<ProductDto> getProductsByIds(Collection<UUID> productIds);
+    ProductOwnership getProductOwnership(UUID productId);
+    List<ProductOwnership> getProductOwnerships(Collection<UUID> productIds);
     ProductDto createProduct(CreateProductRequest req, UUID sellerId);
     Boolean deleteProduct(UUID productId);
     ProductDto updateProduct(UUID productId, ProductDto product);
     ProductDto updateProductQuantity(UUID productId, Integer quantity);
     ProductDto findProductById(UUID productId);
-    List<ProductDto> searchProduct(String query);
-    Page<ProductDto> getAllProducts(String category,
-                                    String brand,
-                                    String colors,
-                                    String sizes,
-                                    Integer minPrice,
-                                    Integer maxPrice,
-                                    Integer minDiscount,
-                                    String sort,
-                                    String stock,
-                                    Integer pageNumber
-    );
+    Page<ProductDto> searchProducts(String query, int page, int size);
+    List<ProductSuggestion> suggestProducts(String prefix, int limit);
+    Page<ProductDto> getAllProducts(ProductFilter filter, int page, int size, String sortBy, String sortDirection);
+    ProductFacets getProductFacets(ProductFilter filter);
     List<ProductDto> getProductBySellerId(UUID sellerId);
+    StockValidationResponse validateStock(Map<UUID, Integer> productQuantities);
+    BulkStatusUpdateResponse bulkUpdateStatus(UUID sellerId, List<UUID> productIds, boolean active);
 }
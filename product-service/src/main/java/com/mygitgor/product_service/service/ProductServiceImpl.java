@@ -1,22 +1,67 @@
 package com.mygitgor.product_service.service;
 
+import com.mygitgor.product_service.cache.ProductCache;
+import com.mygitgor.product_service.domain.Category;
 import com.mygitgor.product_service.domain.Product;
 import com.mygitgor.product_service.dto.CreateProductRequest;
 import com.mygitgor.product_service.dto.ProductDto;
+import com.mygitgor.product_service.dto.ProductFacets;
+import com.mygitgor.product_service.dto.ProductFilter;
+import com.mygitgor.product_service.dto.ProductSuggestion;
+import com.mygitgor.product_service.dto.client.BulkStatusUpdateResponse;
+import com.mygitgor.product_service.dto.client.ProductOwnership;
+import com.mygitgor.product_service.dto.client.StockValidationResponse;
+import com.mygitgor.product_service.event.ProductChangedEvent;
+import com.mygitgor.product_service.facet.ProductFacetIndex;
 import com.mygitgor.product_service.mapper.ProductMapper;
+import com.mygitgor.product_service.repository.CategoryRepository;
 import com.mygitgor.product_service.repository.ProductRepository;
+import com.mygitgor.product_service.repository.ProductSpecifications;
+import com.mygitgor.product_service.search.ProductSearchIndex;
+import com.mygitgor.product_service.suggest.ProductSuggester;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService{
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
     private final ProductMapper productMapper;
+    private final CategoryRepository categoryRepository;
+    private final ProductSearchIndex searchIndex;
+    private final ProductFacetIndex facetIndex;
+    private final ProductSuggester suggester;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "createdAt", "createdAt",
+            "price", "sellingPrice",
+            "sellingPrice", "sellingPrice",
+            "discount", "discountPercent",
+            "discountPercent", "discountPercent"
+    );
+
+    @Value("${product.listing.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${product.bulk.batch-size:500}")
+    private int bulkBatchSize;
 
     @Override
     public Boolean existProductById(UUID productId) {
@@ -25,28 +70,118 @@ public class ProductServiceImpl implements ProductService{
 
     @Override
     public ProductDto getProductById(UUID productId) {
-        if(productRepository.findById(productId).isEmpty()){
-            throw new RuntimeException(String.format(
-                    "product with id '%s' not found",productId
-            ));
+        return productCache.get(productId, id -> productRepository.findById(id).map(productMapper::toDto))
+                .orElseThrow(() -> new RuntimeException(String.format(
+                        "product with id '%s' not found", productId
+                )));
+    }
+
+    @Override
+    public List<ProductDto> getProductsByIds(Collection<UUID> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ProductDto> products = productCache.getAll(productIds, missing ->
+                productRepository.findAllByIdIn(missing).stream()
+                        .map(productMapper::toDto)
+                        .toList());
+        return productIds.stream()
+                .distinct()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public ProductOwnership getProductOwnership(UUID productId) {
+        return productRepository.findOwnershipById(productId)
+                .orElseThrow(() -> new EntityNotFoundException(String.format(
+                        "product with id '%s' not found", productId)));
+    }
+
+    @Override
+    public List<ProductOwnership> getProductOwnerships(Collection<UUID> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
         }
-        Product product = productRepository.findById(productId).get();
-        return productMapper.toDto(product);
+        return productRepository.findOwnershipByIdIn(productIds);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public StockValidationResponse validateStock(Map<UUID, Integer> productQuantities) {
+        Map<UUID, ProductOwnership> products = new HashMap<>();
+        productRepository.findOwnershipByIdIn(productQuantities.keySet())
+                .forEach(product -> products.put(product.getId(), product));
+
+        Map<UUID, String> errors = new LinkedHashMap<>();
+        List<UUID> outOfStock = new ArrayList<>();
+        new TreeMap<>(productQuantities).forEach((productId, requested) -> {
+            ProductOwnership product = products.get(productId);
+            if (requested == null || requested <= 0) {
+                errors.put(productId, "Quantity must be positive");
+            } else if (product == null) {
+                errors.put(productId, "Product not found");
+            } else if (!Boolean.TRUE.equals(product.getActive())) {
+                errors.put(productId, "Product is not available");
+            } else if (product.getQuantity() == null || product.getQuantity() < requested) {
+                int available = product.getQuantity() == null ? 0 : Math.max(product.getQuantity(), 0);
+                errors.put(productId, String.format("Only %d in stock, %d requested", available, requested));
+                outOfStock.add(productId);
+            }
+        });
+
+        return StockValidationResponse.builder()
+                .valid(errors.isEmpty())
+                .errors(errors)
+                .outOfStockProducts(outOfStock)
+                .build();
+    }
+
+    @Override
+    @Transactional
     public ProductDto createProduct(CreateProductRequest req, UUID sellerId) {
-        return null;
+        Product product = productMapper.toEntityFromCreateRequest(req);
+        product.setSellerId(sellerId);
+        product.setCategory(resolveCategory(req));
+        product.applyCreationDefaults();
+
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(saved.getId()));
+        return productMapper.toDto(saved);
     }
 
     @Override
+    @Transactional
     public Boolean deleteProduct(UUID productId) {
-        return false;
+        if (!productRepository.existsById(productId)) {
+            return false;
+        }
+        productRepository.deleteById(productId);
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId));
+        return true;
     }
 
     @Override
+    @Transactional
     public ProductDto updateProduct(UUID productId, ProductDto product) {
-        return null;
+        Product existing = productRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException(String.format(
+                        "product with id '%s' not found", productId)));
+
+        productMapper.updateEntity(product, existing);
+        Product saved = productRepository.save(existing);
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId));
+        return productMapper.toDto(saved);
+    }
+
+    private Category resolveCategory(CreateProductRequest req) {
+        return Stream.of(req.getCategory3(), req.getCategory2(), req.getCategory())
+                .filter(categoryId -> categoryId != null && !categoryId.isBlank())
+                .map(categoryRepository::findByCategoryId)
+                .flatMap(Optional::stream)
+                .findFirst()
+                .orElse(null);
     }
 
     @Override
@@ -60,13 +195,45 @@ public class ProductServiceImpl implements ProductService{
     }
 
     @Override
-    public List<ProductDto> searchProduct(String query) {
-        return List.of();
+    public Page<ProductDto> searchProducts(String query, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), maxPageSize));
+        ProductSearchIndex.Hits hits = searchIndex.search(query, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.getProductIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.getTotal());
+        }
+
+        Map<UUID, ProductDto> products = new HashMap<>();
+        productRepository.findAllByIdIn(hits.getProductIds())
+                .forEach(product -> products.put(product.getId(), productMapper.toDto(product)));
+        List<ProductDto> ranked = hits.getProductIds().stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ranked, pageable, hits.getTotal());
     }
 
     @Override
-    public Page<ProductDto> getAllProducts(String category, String brand, String colors, String sizes, Integer minPrice, Integer maxPrice, Integer minDiscount, String sort, String stock, Integer pageNumber) {
-        return null;
+    public List<ProductSuggestion> suggestProducts(String prefix, int limit) {
+        return suggester.suggest(prefix, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProductDto> getAllProducts(ProductFilter filter, int page, int size, String sortBy, String sortDirection) {
+        String property = SORTABLE_PROPERTIES.get(sortBy);
+        if (property == null) {
+            throw new IllegalArgumentException(String.format(
+                    "Unsupported sort '%s', expected one of %s", sortBy, SORTABLE_PROPERTIES.keySet()));
+        }
+        Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), property);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), maxPageSize), sort);
+
+        return productRepository.findProductPage(ProductSpecifications.matching(filter), pageable);
+    }
+
+    @Override
+    public ProductFacets getProductFacets(ProductFilter filter) {
+        return facetIndex.count(filter);
     }
 
     @Override
@@ -74,5 +241,39 @@ public class ProductServiceImpl implements ProductService{
         return List.of();
     }
 
+    @Override
+    @Transactional
+    public BulkStatusUpdateResponse bulkUpdateStatus(UUID sellerId, List<UUID> productIds, boolean active) {
+        List<UUID> requested = new ArrayList<>(new LinkedHashSet<>(productIds));
+        List<UUID> updatedIds = new ArrayList<>(requested.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < requested.size(); from += bulkBatchSize) {
+            List<UUID> batch = requested.subList(from, Math.min(from + bulkBatchSize, requested.size()));
+            List<UUID> owned = productRepository.lockStatusRows(batch, sellerId).stream()
+                    .map(ProductRepository.ProductStatusRow::getId)
+                    .toList();
+            if (owned.isEmpty()) {
+                continue;
+            }
+            productRepository.updateActive(owned, sellerId, active, now);
+            eventPublisher.publishEvent(new ProductChangedEvent(owned));
+            updatedIds.addAll(owned);
+        }
+
+        Set<UUID> updated = new HashSet<>(updatedIds);
+        List<UUID> rejectedIds = requested.stream()
+                .filter(id -> !updated.contains(id))
+                .toList();
+
+        log.info("Bulk status update to active={} for seller {}: {} updated, {} rejected",
+                active, sellerId, updatedIds.size(), rejectedIds.size());
+        return BulkStatusUpdateResponse.builder()
+                .active(active)
+                .updatedProductIds(updatedIds)
+                .rejectedProductIds(rejectedIds)
+                .build();
+    }
+
 
 }
@@ -0,0 +1,31 @@
+package com.mygitgor.product_service.service;
+
+import com.mygitgor.product_service.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Computes rating aggregates from visible reviews for products that have never had them. Rows
+ * that already carry aggregates are left alone, so running it again is a no-op.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.reviews.rating-backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class RatingAggregateBackfill {
+    private final ProductRepository productRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = productRepository.recalculateAllMissingRatings();
+        if (updated > 0) {
+            log.info("Backfilled rating aggregates for {} products", updated);
+        }
+    }
+}
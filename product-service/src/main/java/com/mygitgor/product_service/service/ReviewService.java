@@ -0,0 +1,18 @@
+package com.mygitgor.product_service.service;
+
+import com.mygitgor.product_service.dto.CreateReviewRequest;
+import com.mygitgor.product_service.dto.RatingSummary;
+import com.mygitgor.product_service.dto.ReviewDto;
+import com.mygitgor.product_service.dto.ReviewPage;
+
+import java.util.UUID;
+
+public interface ReviewService {
+    ReviewDto createReview(UUID productId, String userId, CreateReviewRequest request);
+    Boolean deleteReview(UUID reviewId, String userId);
+    ReviewDto moderateReview(UUID reviewId, boolean approve, String moderatorNotes);
+    RatingSummary getRatingSummary(UUID productId);
+    ReviewPage getProductReviews(UUID productId, String sort, String cursor, int size, String userId);
+    Integer voteHelpful(UUID reviewId, String userId);
+    Integer unvoteHelpful(UUID reviewId, String userId);
+}
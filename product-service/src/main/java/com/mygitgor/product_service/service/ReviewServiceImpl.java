@@ -0,0 +1,215 @@
+package com.mygitgor.product_service.service;
+
+import com.mygitgor.product_service.domain.Product;
+import com.mygitgor.product_service.domain.Review;
+import com.mygitgor.product_service.domain.ReviewStatus;
+import com.mygitgor.product_service.dto.CreateReviewRequest;
+import com.mygitgor.product_service.dto.RatingSummary;
+import com.mygitgor.product_service.dto.ReviewDto;
+import com.mygitgor.product_service.dto.ReviewPage;
+import com.mygitgor.product_service.dto.ReviewSort;
+import com.mygitgor.product_service.event.ProductChangedEvent;
+import com.mygitgor.product_service.mapper.ReviewMapper;
+import com.mygitgor.product_service.repository.ProductRepository;
+import com.mygitgor.product_service.repository.ReviewHelpfulVoteRepository;
+import com.mygitgor.product_service.repository.ReviewRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Keeps the product rating aggregates in step with visible reviews. Each insert, delete or
+ * moderation that changes visibility applies a single-row delta, so no review set is ever rescanned.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewServiceImpl implements ReviewService {
+    private final ReviewRepository reviewRepository;
+    private final ReviewHelpfulVoteRepository voteRepository;
+    private final ProductRepository productRepository;
+    private final ReviewMapper reviewMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${product.reviews.max-page-size:50}")
+    private int maxPageSize;
+
+    @Override
+    @Transactional
+    public ReviewDto createReview(UUID productId, String userId, CreateReviewRequest request) {
+        if (!productRepository.existsById(productId)) {
+            throw new EntityNotFoundException(String.format("product with id '%s' not found", productId));
+        }
+        Product product = productRepository.getReferenceById(productId);
+        Review review = Review.createWithTitle(request.getTitle(), request.getReviewText(), request.getRating(),
+                userId, request.getUserName(), product);
+        review.setUserAvatar(request.getUserAvatar());
+        if (request.getProductImages() != null) {
+            review.setProductImages(new ArrayList<>(request.getProductImages()));
+        }
+
+        Review saved = reviewRepository.save(review);
+        if (saved.isVisible()) {
+            applyRating(productId, saved, 1);
+        }
+        log.info("Review {} created for product {} by user {}", saved.getId(), productId, userId);
+        return reviewMapper.toDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public Boolean deleteReview(UUID reviewId, String userId) {
+        Optional<Review> found = reviewRepository.findById(reviewId);
+        if (found.isEmpty()) {
+            return false;
+        }
+        Review review = found.get();
+        if (userId != null && !userId.equals(review.getUserId())) {
+            throw new IllegalStateException("Review does not belong to user");
+        }
+
+        boolean visible = review.isVisible();
+        UUID productId = review.getProduct().getId();
+        voteRepository.deleteByReviewId(reviewId);
+        reviewRepository.delete(review);
+        if (visible) {
+            applyRating(productId, review, -1);
+        }
+        log.info("Review {} deleted from product {}", reviewId, productId);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public ReviewDto moderateReview(UUID reviewId, boolean approve, String moderatorNotes) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new EntityNotFoundException(String.format(
+                        "review with id '%s' not found", reviewId)));
+
+        boolean wasVisible = review.isVisible();
+        ReviewStatus target = approve ? ReviewStatus.ACTIVE : ReviewStatus.REJECTED;
+        // Conditional on the state read above, so concurrent moderators cannot apply the same delta twice.
+        int updated = reviewRepository.moderate(reviewId, review.getStatus(), Boolean.TRUE.equals(review.getApproved()),
+                target, approve, moderatorNotes, LocalDateTime.now());
+        if (updated == 0) {
+            throw new IllegalStateException("Review " + reviewId + " was moderated concurrently");
+        }
+        if (wasVisible != approve) {
+            applyRating(review.getProduct().getId(), review, approve ? 1 : -1);
+        }
+
+        ReviewDto dto = reviewMapper.toDto(review);
+        dto.setStatus(target);
+        dto.setApproved(approve);
+        return dto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RatingSummary getRatingSummary(UUID productId) {
+        return productRepository.findRatingSummary(productId)
+                .orElseThrow(() -> new EntityNotFoundException(String.format(
+                        "product with id '%s' not found", productId)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReviewPage getProductReviews(UUID productId, String sort, String cursor, int size, String userId) {
+        ReviewSort reviewSort = ReviewSort.from(sort);
+        ScrollPosition position = cursor == null || cursor.isBlank()
+                ? ScrollPosition.keyset()
+                : decodeCursor(reviewSort, cursor);
+
+        Window<Review> window = reviewRepository.findByProduct_IdAndStatusAndApprovedTrue(productId,
+                ReviewStatus.ACTIVE, position, reviewSort.toSort(), Limit.of(Math.min(Math.max(size, 1), maxPageSize)));
+
+        List<ReviewDto> reviews = window.stream().map(reviewMapper::toDto).toList();
+        if (userId != null && !reviews.isEmpty()) {
+            Set<UUID> voted = new HashSet<>(voteRepository.findVotedReviewIds(userId,
+                    reviews.stream().map(ReviewDto::getId).toList()));
+            reviews.forEach(review -> review.setVotedHelpful(voted.contains(review.getId())));
+        }
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encodeCursor(reviewSort, window.getContent().get(window.size() - 1))
+                : null;
+        return ReviewPage.builder()
+                .reviews(reviews)
+                .nextCursor(nextCursor)
+                .hasNext(window.hasNext())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public Integer voteHelpful(UUID reviewId, String userId) {
+        requireReview(reviewId);
+        if (voteRepository.addVote(reviewId, userId) == 1) {
+            reviewRepository.adjustHelpfulCount(reviewId, 1);
+        }
+        return reviewRepository.findHelpfulCount(reviewId).orElse(0);
+    }
+
+    @Override
+    @Transactional
+    public Integer unvoteHelpful(UUID reviewId, String userId) {
+        requireReview(reviewId);
+        if (voteRepository.removeVote(reviewId, userId) == 1) {
+            reviewRepository.adjustHelpfulCount(reviewId, -1);
+        }
+        return reviewRepository.findHelpfulCount(reviewId).orElse(0);
+    }
+
+    private void requireReview(UUID reviewId) {
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new EntityNotFoundException(String.format("review with id '%s' not found", reviewId));
+        }
+    }
+
+    /**
+     * Cursors are the last row's sort key and id, so the next page starts strictly after it
+     * regardless of reviews added in the meantime.
+     */
+    private static String encodeCursor(ReviewSort sort, Review last) {
+        Object key = switch (sort) {
+            case RECENT -> last.getCreatedAt();
+            case HELPFUL -> last.getHelpfulCount();
+            case RATING_HIGH, RATING_LOW -> last.getRating();
+        };
+        String raw = key + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static KeysetScrollPosition decodeCursor(ReviewSort sort, String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(sort.getProperty(), sort.getKeyParser().apply(raw.substring(0, separator)));
+            keys.put("id", UUID.fromString(raw.substring(separator + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid review cursor", e);
+        }
+    }
+
+    private void applyRating(UUID productId, Review review, int delta) {
+        // Products that predate the aggregate columns are rebuilt from their reviews, which already include this change.
+        if (productRepository.recalculateMissingRatings(productId) == 0) {
+            productRepository.applyRating(productId, review.getRating(), review.getStars(), delta);
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId));
+    }
+}
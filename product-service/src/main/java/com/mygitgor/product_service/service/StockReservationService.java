@@ -0,0 +1,13 @@
+package com.mygitgor.product_service.service;
+
+import com.mygitgor.product_service.dto.client.StockReservationRequest;
+import com.mygitgor.product_service.dto.client.StockReservationResponse;
+
+import java.util.UUID;
+
+public interface StockReservationService {
+    StockReservationResponse reserve(StockReservationRequest request);
+    StockReservationResponse confirm(UUID reservationId);
+    StockReservationResponse release(UUID reservationId);
+    int expireHolds();
+}
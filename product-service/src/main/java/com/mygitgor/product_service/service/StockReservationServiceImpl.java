@@ -0,0 +1,198 @@
+package com.mygitgor.product_service.service;
+
+import com.mygitgor.product_service.client.OrderClient;
+import com.mygitgor.product_service.domain.ReservationLine;
+import com.mygitgor.product_service.domain.ReservationStatus;
+import com.mygitgor.product_service.domain.StockReservation;
+import com.mygitgor.product_service.dto.client.StockReservationRequest;
+import com.mygitgor.product_service.dto.client.StockReservationResponse;
+import com.mygitgor.product_service.event.ProductChangedEvent;
+import com.mygitgor.product_service.repository.ProductRepository;
+import com.mygitgor.product_service.repository.StockReservationRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationServiceImpl implements StockReservationService {
+    private final StockReservationRepository reservationRepository;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderClient orderClient;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${product.reservation.ttl:15m}")
+    private Duration ttl;
+
+    @Value("${product.reservation.expiry.batch-size:100}")
+    private int expiryBatchSize;
+
+    @Value("${product.reservation.expiry.grace:2m}")
+    private Duration expiryGrace;
+
+    @Override
+    @Transactional
+    public StockReservationResponse reserve(StockReservationRequest request) {
+        Optional<StockReservation> existing = reservationRepository.findByReferenceId(request.getReferenceId());
+        if (existing.isPresent()) {
+            log.info("Returning existing reservation for reference {}", request.getReferenceId());
+            return toResponse(existing.get());
+        }
+
+        List<ReservationLine> lines = new TreeMap<>(request.getProductQuantities()).entrySet().stream()
+                .map(entry -> new ReservationLine(entry.getKey(), entry.getValue()))
+                .toList();
+        for (ReservationLine line : lines) {
+            if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive for product " + line.getProductId());
+            }
+        }
+
+        // Lines are applied in product id order so concurrent reservations lock rows consistently.
+        List<UUID> outOfStock = new ArrayList<>();
+        for (ReservationLine line : lines) {
+            if (productRepository.reserveStock(line.getProductId(), line.getQuantity()) == 0) {
+                outOfStock.add(line.getProductId());
+            }
+        }
+
+        if (!outOfStock.isEmpty()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.info("Reservation {} rejected, out of stock: {}", request.getReferenceId(), outOfStock);
+            return StockReservationResponse.builder()
+                    .referenceId(request.getReferenceId())
+                    .outOfStockProducts(outOfStock)
+                    .error("Insufficient stock")
+                    .build();
+        }
+
+        StockReservation reservation = reservationRepository.save(
+                StockReservation.hold(request.getReferenceId(), lines, LocalDateTime.now().plus(ttl)));
+        eventPublisher.publishEvent(changedProducts(lines));
+        log.info("Reserved {} lines for reference {} until {}",
+                lines.size(), request.getReferenceId(), reservation.getExpiresAt());
+        return toResponse(reservation);
+    }
+
+    @Override
+    @Transactional
+    public StockReservationResponse confirm(UUID reservationId) {
+        StockReservation reservation = findReservation(reservationId);
+        if (reservationRepository.transition(reservationId, ReservationStatus.HELD,
+                ReservationStatus.CONFIRMED, LocalDateTime.now()) == 0) {
+            if (reservation.getStatus() == ReservationStatus.CONFIRMED) {
+                return toResponse(reservation);
+            }
+            throw new IllegalStateException(String.format(
+                    "reservation '%s' is %s and cannot be confirmed", reservationId, reservation.getStatus()));
+        }
+        return toResponse(reservation, ReservationStatus.CONFIRMED);
+    }
+
+    @Override
+    @Transactional
+    public StockReservationResponse release(UUID reservationId) {
+        StockReservation reservation = findReservation(reservationId);
+        if (releaseHold(reservation, ReservationStatus.RELEASED)) {
+            return toResponse(reservation, ReservationStatus.RELEASED);
+        }
+        if (reservation.getStatus() == ReservationStatus.CONFIRMED) {
+            throw new IllegalStateException(String.format(
+                    "reservation '%s' is already confirmed", reservationId));
+        }
+        return toResponse(reservation);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${product.reservation.expiry.interval-ms:30000}")
+    public int expireHolds() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(expiryGrace);
+        List<UUID> candidates = reservationRepository.findExpiredIds(
+                ReservationStatus.HELD, cutoff, PageRequest.of(0, expiryBatchSize));
+
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        // Order-service only commits orders while a hold has time left, so past expiry plus the grace
+        // period the answer can no longer change and is fetched before any reservation row is locked.
+        Set<UUID> withOrders;
+        try {
+            withOrders = orderClient.findReservationsWithOrders(candidates);
+        } catch (RuntimeException e) {
+            log.warn("Skipping expiry of {} reservations, order lookup failed: {}", candidates.size(), e.getMessage());
+            return 0;
+        }
+
+        Integer released = transactionTemplate.execute(status -> expireLocked(candidates, withOrders, cutoff));
+        return released != null ? released : 0;
+    }
+
+    private int expireLocked(List<UUID> candidates, Set<UUID> withOrders, LocalDateTime cutoff) {
+        int released = 0;
+        for (StockReservation reservation : reservationRepository.lockExpired(
+                candidates, ReservationStatus.HELD, cutoff)) {
+            if (withOrders.contains(reservation.getId())) {
+                if (reservationRepository.transition(reservation.getId(), ReservationStatus.HELD,
+                        ReservationStatus.CONFIRMED, LocalDateTime.now()) > 0) {
+                    log.info("Confirmed expired reservation {} that has persisted orders", reservation.getId());
+                }
+            } else if (releaseHold(reservation, ReservationStatus.EXPIRED)) {
+                released++;
+            }
+        }
+        if (released > 0) {
+            log.info("Expired {} stock reservations", released);
+        }
+        return released;
+    }
+
+    private boolean releaseHold(StockReservation reservation, ReservationStatus to) {
+        if (reservationRepository.transition(reservation.getId(), ReservationStatus.HELD,
+                to, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        for (ReservationLine line : reservation.getLines()) {
+            productRepository.restoreStock(line.getProductId(), line.getQuantity());
+        }
+        eventPublisher.publishEvent(changedProducts(reservation.getLines()));
+        return true;
+    }
+
+    private static ProductChangedEvent changedProducts(List<ReservationLine> lines) {
+        return new ProductChangedEvent(lines.stream().map(ReservationLine::getProductId).toList());
+    }
+
+    private StockReservation findReservation(UUID reservationId) {
+        return reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new EntityNotFoundException(String.format(
+                        "reservation with id '%s' not found", reservationId)));
+    }
+
+    private StockReservationResponse toResponse(StockReservation reservation) {
+        return toResponse(reservation, reservation.getStatus());
+    }
+
+    private StockReservationResponse toResponse(StockReservation reservation, ReservationStatus status) {
+        return StockReservationResponse.builder()
+                .reservationId(reservation.getId())
+                .referenceId(reservation.getReferenceId())
+                .status(status)
+                .expiresAt(reservation.getExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.mygitgor.product_service.suggest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ProductSuggestSource {
+    private UUID id;
+    private String title;
+    private String brand;
+    private String categoryName;
+    private Integer reviewCount;
+}
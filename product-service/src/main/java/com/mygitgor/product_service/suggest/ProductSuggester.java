@@ -0,0 +1,136 @@
+package com.mygitgor.product_service.suggest;
+
+import com.mygitgor.product_service.dto.ProductSuggestion;
+import com.mygitgor.product_service.event.ProductChangedEvent;
+import com.mygitgor.product_service.event.RemoteProductChangedEvent;
+import com.mygitgor.product_service.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves typeahead suggestions from an immutable {@link SuggestionTrie}. Product changes are
+ * applied to an in-memory copy of the source rows and a replacement trie is built off the
+ * request path, then swapped in atomically.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSuggester {
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final ProductRepository productRepository;
+    private final Map<UUID, ProductSuggestSource> sources = new ConcurrentHashMap<>();
+    private final AtomicReference<SuggestionTrie> trie = new AtomicReference<>(SuggestionTrie.empty());
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    @Value("${product.suggest.max-results:10}")
+    private int maxResults;
+
+    @Value("${product.suggest.load-batch-size:5000}")
+    private int loadBatchSize;
+
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        return trie.get().suggest(prefix, Math.min(limit, maxResults));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(event.getProductIds());
+    }
+
+    @EventListener
+    public void onRemoteProductChanged(RemoteProductChangedEvent event) {
+        apply(event.getProductIds());
+    }
+
+    private void apply(List<UUID> productIds) {
+        try {
+            Set<UUID> removed = new HashSet<>(productIds);
+            for (ProductSuggestSource source : productRepository.findSuggestSourcesByIdIn(productIds)) {
+                sources.put(source.getId(), source);
+                removed.remove(source.getId());
+            }
+            removed.forEach(sources::remove);
+            dirty.set(true);
+        } catch (Exception e) {
+            log.error("Failed to update suggestions for products {}: {}", productIds, e.getMessage());
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            long started = System.currentTimeMillis();
+            UUID lastId = MIN_ID;
+            List<ProductSuggestSource> batch;
+            do {
+                batch = productRepository.findSuggestSources(lastId, Limit.of(loadBatchSize));
+                batch.forEach(source -> sources.put(source.getId(), source));
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == loadBatchSize);
+            rebuild();
+            log.info("Loaded suggestions for {} products in {} ms",
+                    sources.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Failed to load suggestions: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.suggest.refresh-interval-ms:10000}")
+    public void refreshIfChanged() {
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    void rebuild() {
+        List<SuggestionTrie.Candidate> candidates = new ArrayList<>();
+        Map<String, Long> brandWeights = new HashMap<>();
+        Map<String, Long> categoryWeights = new HashMap<>();
+        Map<String, String> displayText = new HashMap<>();
+
+        for (ProductSuggestSource source : sources.values()) {
+            long popularity = 1L + (source.getReviewCount() == null ? 0 : source.getReviewCount());
+            String title = SuggestionTrie.normalize(source.getTitle());
+            candidates.add(new SuggestionTrie.Candidate(title, source.getTitle(), ProductSuggestion.Type.TITLE, popularity));
+            accumulate(brandWeights, displayText, source.getBrand(), popularity);
+            accumulate(categoryWeights, displayText, source.getCategoryName(), popularity);
+        }
+        // Brands and categories rank by the popularity of everything under them, so they
+        // outweigh any single product title sharing the same prefix.
+        brandWeights.forEach((key, weight) -> candidates.add(
+                new SuggestionTrie.Candidate(key, displayText.get(key), ProductSuggestion.Type.BRAND, weight)));
+        categoryWeights.forEach((key, weight) -> candidates.add(
+                new SuggestionTrie.Candidate(key, displayText.get(key), ProductSuggestion.Type.CATEGORY, weight)));
+
+        SuggestionTrie rebuilt = SuggestionTrie.build(candidates, maxResults);
+        trie.set(rebuilt);
+        log.debug("Rebuilt suggestion trie with {} entries", rebuilt.size());
+    }
+
+    private static void accumulate(Map<String, Long> weights, Map<String, String> displayText,
+                                   String text, long popularity) {
+        String key = SuggestionTrie.normalize(text);
+        if (!key.isEmpty()) {
+            weights.merge(key, popularity, Long::sum);
+            displayText.putIfAbsent(key, text.trim());
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.mygitgor.product_service.suggest;
+
+import com.mygitgor.product_service.dto.ProductSuggestion;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Immutable radix trie over normalized suggestion keys. Edge labels point into the key strings
+ * instead of copying them, and every node keeps its best suggestions precomputed, so a lookup
+ * is a walk down the prefix followed by a copy of at most {@code maxResults} references.
+ */
+public final class SuggestionTrie {
+    private static final SuggestionTrie EMPTY = new SuggestionTrie(List.of(), 0);
+
+    private final String[] keys;
+    private final ProductSuggestion[] suggestions;
+
+    private final int[] labelKey;
+    private final int[] labelStart;
+    private final int[] labelEnd;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topOffset;
+    private final int[] topLength;
+    private final int[] top;
+
+    public static SuggestionTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param candidates suggestions keyed by their normalized form; on duplicate keys the
+     *                   heaviest candidate wins
+     */
+    public static SuggestionTrie build(Collection<Candidate> candidates, int maxResults) {
+        Map<String, Candidate> unique = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            if (!candidate.getKey().isEmpty()) {
+                unique.merge(candidate.getKey(), candidate,
+                        (a, b) -> a.getWeight() >= b.getWeight() ? a : b);
+            }
+        }
+        List<Candidate> sorted = unique.values().stream()
+                .sorted(Comparator.comparing(Candidate::getKey))
+                .toList();
+        return sorted.isEmpty() ? EMPTY : new SuggestionTrie(sorted, maxResults);
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = normalized.length() > 0;
+            } else {
+                if (space) {
+                    normalized.append(' ');
+                    space = false;
+                }
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private SuggestionTrie(List<Candidate> sorted, int maxResults) {
+        int size = sorted.size();
+        keys = new String[size];
+        suggestions = new ProductSuggestion[size];
+        long[] weights = new long[size];
+        for (int i = 0; i < size; i++) {
+            Candidate candidate = sorted.get(i);
+            keys[i] = candidate.getKey();
+            suggestions[i] = new ProductSuggestion(candidate.getText(), candidate.getType());
+            weights[i] = candidate.getWeight();
+        }
+
+        List<NodeBuilder> nodes = new ArrayList<>();
+        if (size > 0) {
+            NodeBuilder root = new NodeBuilder(0, 0, 0);
+            nodes.add(root);
+            buildChildren(root, 0, size, 0, weights, maxResults, nodes);
+        }
+
+        int nodeCount = nodes.size();
+        labelKey = new int[nodeCount];
+        labelStart = new int[nodeCount];
+        labelEnd = new int[nodeCount];
+        firstChild = new int[nodeCount];
+        childCount = new int[nodeCount];
+        topOffset = new int[nodeCount];
+        topLength = new int[nodeCount];
+        top = new int[nodes.stream().mapToInt(node -> node.top.length).sum()];
+
+        int offset = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            NodeBuilder node = nodes.get(i);
+            labelKey[i] = node.key;
+            labelStart[i] = node.start;
+            labelEnd[i] = node.end;
+            firstChild[i] = node.firstChild;
+            childCount[i] = node.childCount;
+            topOffset[i] = offset;
+            topLength[i] = node.top.length;
+            System.arraycopy(node.top, 0, top, offset, node.top.length);
+            offset += node.top.length;
+        }
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        if (keys.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String query = normalize(prefix);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        int node = 0;
+        int pos = 0;
+        while (pos < query.length()) {
+            int child = findChild(node, query.charAt(pos));
+            if (child < 0) {
+                return List.of();
+            }
+            String label = keys[labelKey[child]];
+            for (int i = labelStart[child]; i < labelEnd[child] && pos < query.length(); i++, pos++) {
+                if (label.charAt(i) != query.charAt(pos)) {
+                    return List.of();
+                }
+            }
+            node = child;
+        }
+
+        int count = Math.min(limit, topLength[node]);
+        List<ProductSuggestion> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(suggestions[top[topOffset[node] + i]]);
+        }
+        return result;
+    }
+
+    private int findChild(int node, char c) {
+        int from = firstChild[node];
+        int to = from + childCount[node];
+        for (int child = from; child < to; child++) {
+            if (keys[labelKey[child]].charAt(labelStart[child]) == c) {
+                return child;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Builds the children of {@code parent} for keys {@code [lo, hi)}, which share their first
+     * {@code depth} characters. Children are appended contiguously so they can be scanned by range.
+     */
+    private void buildChildren(NodeBuilder parent, int lo, int hi, int depth, long[] weights,
+                               int maxResults, List<NodeBuilder> nodes) {
+        List<Integer> candidates = new ArrayList<>();
+        int start = lo;
+        if (keys[lo].length() == depth) {
+            candidates.add(lo);
+            start++;
+        }
+
+        List<int[]> groups = new ArrayList<>();
+        for (int i = start; i < hi; ) {
+            char c = keys[i].charAt(depth);
+            int j = i + 1;
+            while (j < hi && keys[j].charAt(depth) == c) {
+                j++;
+            }
+            groups.add(new int[]{i, j});
+            i = j;
+        }
+
+        parent.firstChild = nodes.size();
+        parent.childCount = groups.size();
+        List<NodeBuilder> children = new ArrayList<>(groups.size());
+        for (int[] group : groups) {
+            int end = commonPrefixLength(keys[group[0]], keys[group[1] - 1]);
+            NodeBuilder child = new NodeBuilder(group[0], depth, end);
+            nodes.add(child);
+            children.add(child);
+        }
+        for (int g = 0; g < groups.size(); g++) {
+            NodeBuilder child = children.get(g);
+            buildChildren(child, groups.get(g)[0], groups.get(g)[1], child.end, weights, maxResults, nodes);
+            for (int index : child.top) {
+                candidates.add(index);
+            }
+        }
+
+        parent.top = candidates.stream()
+                .sorted(Comparator.<Integer>comparingLong(index -> weights[index]).reversed()
+                        .thenComparing(index -> keys[index]))
+                .limit(maxResults)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class Candidate {
+        private final String key;
+        private final String text;
+        private final ProductSuggestion.Type type;
+        private final long weight;
+    }
+
+    private static final class NodeBuilder {
+        private final int key;
+        private final int start;
+        private final int end;
+        private int firstChild;
+        private int childCount;
+        private int[] top = new int[0];
+
+        private NodeBuilder(int key, int start, int end) {
+            this.key = key;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS stock_reservations (
+    id           UUID         NOT NULL PRIMARY KEY,
+    reference_id VARCHAR(255) NOT NULL,
+    status       VARCHAR(32)  NOT NULL,
+    expires_at   TIMESTAMP(6) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_stock_reservations_reference
+    ON stock_reservations (reference_id);
+CREATE INDEX IF NOT EXISTS idx_stock_reservations_status_expiry
+    ON stock_reservations (status, expires_at);
+
+CREATE TABLE IF NOT EXISTS stock_reservation_lines (
+    reservation_id UUID    NOT NULL REFERENCES stock_reservations (id),
+    product_id     UUID    NOT NULL,
+    quantity       INTEGER NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_reservation_lines_reservation
+    ON stock_reservation_lines (reservation_id);
@@ -0,0 +1,11 @@
+-- Built concurrently so the products table stays writable; see the matching .conf file.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_created
+    ON products (active, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_price
+    ON products (active, selling_price, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_discount
+    ON products (active, discount_percent, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_category_price
+    ON products (category_id, active, selling_price);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_brand_price
+    ON products (brand, active, selling_price);
@@ -0,0 +1,52 @@
+ALTER TABLE products
+    ADD COLUMN IF NOT EXISTS rating_sum       DOUBLE PRECISION,
+    ADD COLUMN IF NOT EXISTS one_star_count   INTEGER,
+    ADD COLUMN IF NOT EXISTS two_star_count   INTEGER,
+    ADD COLUMN IF NOT EXISTS three_star_count INTEGER,
+    ADD COLUMN IF NOT EXISTS four_star_count  INTEGER,
+    ADD COLUMN IF NOT EXISTS five_star_count  INTEGER;
+
+-- Same rebuild as ProductRepository.RECALCULATE_MISSING_RATINGS: rows that never had
+-- aggregates are computed from their visible reviews.
+UPDATE products p
+SET rating_sum = COALESCE(r.rating_sum, 0),
+    review_count = COALESCE(r.review_count, 0),
+    average_rating = CASE WHEN r.review_count > 0 THEN r.rating_sum / r.review_count ELSE 0 END,
+    one_star_count = COALESCE(r.one_star_count, 0),
+    two_star_count = COALESCE(r.two_star_count, 0),
+    three_star_count = COALESCE(r.three_star_count, 0),
+    four_star_count = COALESCE(r.four_star_count, 0),
+    five_star_count = COALESCE(r.five_star_count, 0)
+FROM products target
+LEFT JOIN (
+    SELECT rv.product_id,
+           SUM(rv.rating) AS rating_sum,
+           COUNT(*) AS review_count,
+           SUM(CASE WHEN FLOOR(rv.rating + 0.5) <= 1 THEN 1 ELSE 0 END) AS one_star_count,
+           SUM(CASE WHEN FLOOR(rv.rating + 0.5) = 2 THEN 1 ELSE 0 END) AS two_star_count,
+           SUM(CASE WHEN FLOOR(rv.rating + 0.5) = 3 THEN 1 ELSE 0 END) AS three_star_count,
+           SUM(CASE WHEN FLOOR(rv.rating + 0.5) = 4 THEN 1 ELSE 0 END) AS four_star_count,
+           SUM(CASE WHEN FLOOR(rv.rating + 0.5) >= 5 THEN 1 ELSE 0 END) AS five_star_count
+    FROM reviews rv
+    WHERE rv.status = 'ACTIVE' AND rv.approved = TRUE
+    GROUP BY rv.product_id
+) r ON r.product_id = target.id
+WHERE p.id = target.id AND p.rating_sum IS NULL;
+
+ALTER TABLE products
+    ALTER COLUMN rating_sum SET DEFAULT 0,
+    ALTER COLUMN rating_sum SET NOT NULL,
+    ALTER COLUMN review_count SET DEFAULT 0,
+    ALTER COLUMN review_count SET NOT NULL,
+    ALTER COLUMN average_rating SET DEFAULT 0,
+    ALTER COLUMN average_rating SET NOT NULL,
+    ALTER COLUMN one_star_count SET DEFAULT 0,
+    ALTER COLUMN one_star_count SET NOT NULL,
+    ALTER COLUMN two_star_count SET DEFAULT 0,
+    ALTER COLUMN two_star_count SET NOT NULL,
+    ALTER COLUMN three_star_count SET DEFAULT 0,
+    ALTER COLUMN three_star_count SET NOT NULL,
+    ALTER COLUMN four_star_count SET DEFAULT 0,
+    ALTER COLUMN four_star_count SET NOT NULL,
+    ALTER COLUMN five_star_count SET DEFAULT 0,
+    ALTER COLUMN five_star_count SET NOT NULL;
@@ -0,0 +1,29 @@
+CREATE TABLE IF NOT EXISTS review_helpful_votes (
+    review_id UUID         NOT NULL,
+    user_id   VARCHAR(255) NOT NULL
+);
+
+ALTER TABLE review_helpful_votes
+    ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6);
+
+-- The old element collection had no key, so duplicates are removed before the unique index
+-- that the ON CONFLICT upsert in ReviewHelpfulVoteRepository relies on.
+DELETE FROM review_helpful_votes v
+USING review_helpful_votes d
+WHERE v.review_id = d.review_id
+  AND v.user_id = d.user_id
+  AND v.ctid > d.ctid;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_review_helpful_votes_review_user
+    ON review_helpful_votes (review_id, user_id);
+
+ALTER TABLE reviews
+    ADD COLUMN IF NOT EXISTS helpful_count INTEGER;
+
+UPDATE reviews r
+SET helpful_count = (SELECT COUNT(*) FROM review_helpful_votes v WHERE v.review_id = r.id)
+WHERE r.helpful_count IS NULL;
+
+ALTER TABLE reviews
+    ALTER COLUMN helpful_count SET DEFAULT 0,
+    ALTER COLUMN helpful_count SET NOT NULL;
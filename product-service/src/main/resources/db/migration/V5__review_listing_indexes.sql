@@ -0,0 +1,7 @@
+-- Built concurrently so the reviews table stays writable; see the matching .conf file.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_product_created
+    ON reviews (product_id, status, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_product_helpful
+    ON reviews (product_id, status, helpful_count, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_product_rating
+    ON reviews (product_id, status, rating, id);
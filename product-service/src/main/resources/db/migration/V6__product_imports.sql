@@ -0,0 +1,28 @@
+CREATE TABLE IF NOT EXISTS product_import_jobs (
+    id              UUID          NOT NULL PRIMARY KEY,
+    seller_id       UUID          NOT NULL,
+    format          VARCHAR(32)   NOT NULL,
+    status          VARCHAR(32)   NOT NULL,
+    size_bytes      BIGINT        NOT NULL DEFAULT 0,
+    processed_bytes BIGINT        NOT NULL DEFAULT 0,
+    processed_rows  BIGINT        NOT NULL DEFAULT 0,
+    imported_rows   BIGINT        NOT NULL DEFAULT 0,
+    failed_rows     BIGINT        NOT NULL DEFAULT 0,
+    error           VARCHAR(1000),
+    created_at      TIMESTAMP(6),
+    started_at      TIMESTAMP(6),
+    finished_at     TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_import_jobs_seller
+    ON product_import_jobs (seller_id, created_at);
+
+CREATE TABLE IF NOT EXISTS product_import_errors (
+    id      UUID          NOT NULL PRIMARY KEY,
+    job_id  UUID          NOT NULL REFERENCES product_import_jobs (id),
+    row_num BIGINT        NOT NULL,
+    message VARCHAR(1000)
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_import_errors_job_row
+    ON product_import_errors (job_id, row_num);
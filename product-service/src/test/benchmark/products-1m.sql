@@ -0,0 +1,50 @@
+-- Benchmark catalog for product listing: 50 categories and 1,000,000 products (PostgreSQL 13+).
+-- Values are spread deterministically so filter selectivity is stable across runs.
+
+INSERT INTO category (id, name, category_id, level)
+SELECT gen_random_uuid(), 'Bench category ' || g, 'bench-cat-' || g, 1
+FROM generate_series(1, 50) g
+ON CONFLICT (category_id) DO NOTHING;
+
+INSERT INTO products (id, title, description, quantity, created_at, updated_at,
+                      mrp_price, selling_price, discount_percent, color, size,
+                      seller_id, category_id, brand, sku,
+                      active, approved, featured, in_stock,
+                      min_order_quantity, max_order_quantity,
+                      average_rating, review_count, num_ratings)
+SELECT gen_random_uuid(),
+       'Bench product ' || g,
+       'Benchmark product number ' || g,
+       g % 50,
+       now() - (g % 100000) * interval '1 minute',
+       now(),
+       price.mrp,
+       price.mrp - price.mrp * (g % 60) / 100,
+       g % 60,
+       (ARRAY ['black', 'white', 'red', 'blue', 'green', 'grey', 'navy', 'beige'])[1 + g % 8],
+       (ARRAY ['XS', 'S', 'M', 'L', 'XL', 'XXL', '38', '40', '42', '44'])[1 + g % 10],
+       ('00000000-0000-0000-0000-' || lpad(to_hex(g % 500), 12, '0'))::uuid,
+       c.id,
+       'Brand' || (g % 200),
+       'BENCH_' || g,
+       g % 20 <> 0,
+       true,
+       g % 97 = 0,
+       g % 50 <> 0,
+       1,
+       10,
+       0,
+       0,
+       0
+FROM generate_series(1, 1000000) g
+         CROSS JOIN LATERAL (SELECT 500 + (g * 7919) % 20000 AS mrp) price
+         JOIN category c ON c.category_id = 'bench-cat-' || (1 + g % 50);
+
+INSERT INTO product_images (product_id, images)
+SELECT p.id, 'https://cdn.example.com/bench/' || p.sku || '.jpg'
+FROM products p
+WHERE p.sku LIKE 'BENCH\_%';
+
+ANALYZE category;
+ANALYZE products;
+ANALYZE product_images;
@@ -0,0 +1,140 @@
+package com.mygitgor.product_service.cache;
+
+import com.mygitgor.product_service.dto.ProductDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ProductCacheTest {
+    private RedisTemplate<String, ProductDto> redisTemplate;
+    private ValueOperations<String, ProductDto> valueOperations;
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> generations;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        generations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(generations);
+        when(generations.multiGet(anyList())).thenReturn(Collections.singletonList("3"));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ProductCache(redisTemplate, stringRedisTemplate, meterRegistry,
+                Duration.ofMinutes(1), 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void get_ServesRepeatReadsLocallyUntilEvicted() {
+        ProductDto product = product();
+        when(valueOperations.multiGet(anyList())).thenReturn(Collections.singletonList(null));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(product, cache.get(product.getId(), id -> {
+                loads.incrementAndGet();
+                return Optional.of(product);
+            }).orElseThrow());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(2, requests("local", "hit"));
+        assertEquals(1, requests("redis", "miss"));
+
+        cache.evict(List.of(product.getId()));
+        cache.get(product.getId(), id -> {
+            loads.incrementAndGet();
+            return Optional.of(product);
+        });
+        assertEquals(2, loads.get());
+        verify(redisTemplate).delete(List.of("product:" + product.getId()));
+    }
+
+    @Test
+    void get_FallsBackToLoaderWhenRedisIsDown() {
+        ProductDto product = product();
+        when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(product, cache.get(product.getId(), id -> Optional.of(product)).orElseThrow());
+        assertTrue(cache.get(UUID.randomUUID(), id -> Optional.empty()).isEmpty());
+    }
+
+    @Test
+    void getAll_LoadsOnlyIdsMissingFromBothTiers() {
+        ProductDto local = product();
+        ProductDto remote = product();
+        ProductDto stored = product();
+        cache.get(local.getId(), id -> Optional.of(local));
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(remote, null));
+        List<Collection<UUID>> loaderCalls = new ArrayList<>();
+
+        Map<UUID, ProductDto> result = cache.getAll(List.of(local.getId(), remote.getId(), stored.getId()), ids -> {
+            loaderCalls.add(ids);
+            return List.of(stored);
+        });
+
+        assertEquals(3, result.size());
+        assertEquals(List.of(List.of(stored.getId())), loaderCalls);
+    }
+
+    @Test
+    void get_CapturesGenerationBeforeLoadingAndWritesBackConditionally() {
+        ProductDto product = product();
+        when(valueOperations.multiGet(anyList())).thenReturn(Collections.singletonList(null));
+
+        cache.get(product.getId(), id -> {
+            verify(generations).multiGet(List.of("product:gen:" + product.getId()));
+            return Optional.of(product);
+        });
+
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+    }
+
+    @Test
+    void get_SkipsCacheFillWhenGenerationIsUnknown() {
+        ProductDto product = product();
+        when(valueOperations.multiGet(anyList())).thenReturn(Collections.singletonList(null));
+        when(generations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(product, cache.get(product.getId(), id -> Optional.of(product)).orElseThrow());
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void evict_BumpsGenerationBeforeDeletingEntry() {
+        UUID productId = UUID.randomUUID();
+
+        cache.evict(List.of(productId));
+
+        InOrder order = inOrder(stringRedisTemplate, redisTemplate);
+        order.verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+        order.verify(redisTemplate).delete(List.of("product:" + productId));
+    }
+
+    private double requests(String tier, String result) {
+        return meterRegistry.counter("product.cache.requests", "tier", tier, "result", result).count();
+    }
+
+    private static ProductDto product() {
+        return ProductDto.builder().id(UUID.randomUUID()).title("Product").build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.mygitgor.product_service.facet;
+
+import com.mygitgor.product_service.dto.ProductFacets;
+import com.mygitgor.product_service.dto.ProductFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductFacetIndexTest {
+    private ProductFacetIndex index;
+    private ProductFacetEntry nikeBlack;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductFacetIndex(List.of(0, 1000, 2000));
+        nikeBlack = entry("shoes", "Nike", "black", "42", 900, true);
+        index.apply(List.of(
+                nikeBlack,
+                entry("shoes", "Nike", "white", "43", 1500, true),
+                entry("shoes", "Adidas", "black", "42", 2500, false),
+                entry("shirts", "Nike", "black", "M", 800, true)
+        ));
+    }
+
+    @Test
+    void count_KeepsOwnSelectionOutOfItsFacet() {
+        ProductFacets facets = index.count(ProductFilter.builder()
+                .category("shoes")
+                .brands(List.of("Nike"))
+                .build());
+
+        assertEquals(2, facets.getTotal());
+        assertEquals(Map.of("Nike", 2L, "Adidas", 1L), facets.getBrands());
+        assertEquals(Map.of("black", 1L, "white", 1L), facets.getColors());
+        assertEquals(List.of("0-999", "1000-1999"), List.copyOf(facets.getPriceRanges().keySet()));
+    }
+
+    @Test
+    void count_AppliesPriceAndStockFilters() {
+        ProductFacets facets = index.count(ProductFilter.builder()
+                .minPrice(1000)
+                .inStock(true)
+                .build());
+
+        assertEquals(1, facets.getTotal());
+        assertEquals(Map.of("white", 1L), facets.getColors());
+        assertEquals(Map.of("0-999", 2L, "1000-1999", 1L), facets.getPriceRanges());
+    }
+
+    @Test
+    void apply_MovesUpdatedProductBetweenValues() {
+        index.apply(List.of(new ProductFacetEntry(nikeBlack.getId(), "shoes", "Puma", "red", "42", 900, 0, true)));
+
+        ProductFacets facets = index.count(ProductFilter.builder().category("shoes").build());
+
+        assertEquals(3, facets.getTotal());
+        assertEquals(Map.of("Nike", 1L, "Adidas", 1L, "Puma", 1L), facets.getBrands());
+        assertEquals(Map.of("red", 1L, "white", 1L, "black", 1L), facets.getColors());
+    }
+
+    @Test
+    void finishRebuild_DropsProductsNotReloaded() {
+        index.beginRebuild();
+        index.apply(List.of(nikeBlack));
+        index.finishRebuild();
+
+        assertEquals(1, index.size());
+        assertEquals(Map.of("Nike", 1L), index.count(new ProductFilter()).getBrands());
+    }
+
+    @Test
+    void remove_ReusesFreedSlots() {
+        index.remove(List.of(nikeBlack.getId()));
+        index.apply(List.of(entry("shoes", "Puma", "red", "41", 100, true)));
+
+        assertEquals(4, index.size());
+        assertEquals(Map.of("Nike", 2L, "Adidas", 1L, "Puma", 1L), index.count(new ProductFilter()).getBrands());
+    }
+
+    private static ProductFacetEntry entry(String category, String brand, String color, String size,
+                                           int price, boolean inStock) {
+        return new ProductFacetEntry(UUID.randomUUID(), category, brand, color, size, price, 0, inStock);
+    }
+}
@@ -0,0 +1,113 @@
+package com.mygitgor.product_service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mygitgor.product_service.domain.ImportFormat;
+import com.mygitgor.product_service.dto.CreateProductRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductImportReaderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ValidatorFactory validatorFactory;
+    private ProductImportValidator validator;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = new ProductImportValidator(objectMapper, validatorFactory.getValidator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void csv_ReadsQuotedFieldsAndSplitsImages() throws IOException {
+        Path file = write("""
+                title,description,quantity,mrpPrice,sellingPrice,brand,images
+                "Runner, v2","Light ""fast"" shoe",5,2000,1500,Nike,a.png|b.png
+                Hiker,,0,3000,2500,Salomon,
+                """);
+
+        List<ImportRow> rows = readAll(file, ImportFormat.CSV);
+
+        assertEquals(2, rows.size());
+        CreateProductRequest first = validator.validate(rows.get(0));
+        assertEquals("Runner, v2", first.getTitle());
+        assertEquals("Light \"fast\" shoe", first.getDescription());
+        assertEquals(1500, first.getSellingPrice());
+        assertEquals(List.of("a.png", "b.png"), first.getImages());
+        assertNull(validator.validate(rows.get(1)).getDescription());
+    }
+
+    @Test
+    void ndjson_IsolatesMalformedLines() throws IOException {
+        Path file = write("""
+                {"title":"Runner","quantity":5,"mrpPrice":2000,"sellingPrice":1500}
+                {"title":"Broken",
+                
+                {"title":"Hiker","quantity":1,"mrpPrice":3000,"sellingPrice":2500}
+                """);
+
+        List<ImportRow> rows = readAll(file, ImportFormat.NDJSON);
+
+        assertEquals(List.of(1L, 2L, 4L), rows.stream().map(ImportRow::getRowNumber).toList());
+        assertEquals("Runner", validator.validate(rows.get(0)).getTitle());
+        assertThrows(IllegalArgumentException.class, () -> validator.validate(rows.get(1)));
+        assertEquals("Hiker", validator.validate(rows.get(2)).getTitle());
+    }
+
+    @Test
+    void validate_ReportsEveryProblemInTheRow() throws IOException {
+        Path file = write("""
+                title,quantity,mrpPrice,sellingPrice
+                ,-1,1000,1500
+                Runner,lots,1000,900
+                """);
+        List<ImportRow> rows = readAll(file, ImportFormat.CSV);
+
+        IllegalArgumentException invalid = assertThrows(IllegalArgumentException.class,
+                () -> validator.validate(rows.get(0)));
+        assertTrue(invalid.getMessage().contains("title"));
+        assertTrue(invalid.getMessage().contains("quantity must not be negative"));
+        assertTrue(invalid.getMessage().contains("sellingPrice must not exceed mrpPrice"));
+
+        IllegalArgumentException unreadable = assertThrows(IllegalArgumentException.class,
+                () -> validator.validate(rows.get(1)));
+        assertTrue(unreadable.getMessage().startsWith("Unreadable row"));
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "import-", ".txt");
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private List<ImportRow> readAll(Path file, ImportFormat format) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        try (ProductImportReader reader = new ProductImportReader(file, format, objectMapper)) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+            assertEquals(Files.size(file), reader.bytesRead());
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,115 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.dto.ProductFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Listing latency against a 1M product catalog. Runs only when pointed at a PostgreSQL
+ * database, e.g. {@code mvn test -Dtest=ProductListingBenchmarkTest
+ * -Dbenchmark.db.url=jdbc:postgresql://localhost:5432/product_bench -Dbenchmark.db.username=...
+ * -Dbenchmark.db.password=...}, run from the product-service directory. The dataset is seeded on
+ * first run from {@code src/test/benchmark/products-1m.sql}, which is kept off the test classpath;
+ * {@code -Dbenchmark.dataset=<path>} points at another script.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark.db.url", matches = ".+")
+class ProductListingBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(ProductListingBenchmarkTest.class);
+    private static final int DATASET_SIZE = 1_000_000;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 200;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void benchmarkDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.db.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.db.username", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.db.password", ""));
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @BeforeEach
+    void seed() throws Exception {
+        Long seeded = new JdbcTemplate(dataSource).queryForObject(
+                "SELECT count(*) FROM products WHERE sku LIKE 'BENCH\\_%'", Long.class);
+        if (seeded != null && seeded >= DATASET_SIZE) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new FileSystemResource(
+                    System.getProperty("benchmark.dataset", "src/test/benchmark/products-1m.sql")));
+        }
+    }
+
+    @Test
+    void typicalFilterCombinations_StayUnderP95Budget() {
+        long budgetMs = Long.getLong("benchmark.p95-ms", 50);
+        Map<String, ProductFilter> scenarios = Map.of(
+                "unfiltered", new ProductFilter(),
+                "category+price", ProductFilter.builder()
+                        .category("bench-cat-7").minPrice(2000).maxPrice(8000).build(),
+                "brand+stock", ProductFilter.builder()
+                        .brands(List.of("Brand12", "Brand57")).inStock(true).build(),
+                "color+size+discount", ProductFilter.builder()
+                        .colors(List.of("black", "navy")).sizes(List.of("M", "L")).minDiscount(30).build()
+        );
+        List<Pageable> pages = List.of(
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "sellingPrice"))
+        );
+
+        scenarios.forEach((name, filter) -> pages.forEach(pageable -> {
+            long p95 = p95Millis(filter, pageable);
+            log.info("listing {} sort={} p95={}ms (budget {}ms)", name, pageable.getSort(), p95, budgetMs);
+            assertTrue(p95 <= budgetMs, String.format("%s sorted by %s: p95 %dms exceeds %dms",
+                    name, pageable.getSort(), p95, budgetMs));
+        }));
+    }
+
+    private long p95Millis(ProductFilter filter, Pageable pageable) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            productRepository.findProductPage(ProductSpecifications.matching(filter), pageable);
+        }
+        long[] samples = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            productRepository.findProductPage(ProductSpecifications.matching(filter), pageable);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[(int) Math.ceil(MEASURED_RUNS * 0.95) - 1] / 1_000_000;
+    }
+}
@@ -0,0 +1,174 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.domain.Category;
+import com.mygitgor.product_service.domain.Product;
+import com.mygitgor.product_service.dto.ProductDto;
+import com.mygitgor.product_service.dto.ProductFilter;
+import com.mygitgor.product_service.dto.RatingSummary;
+import com.mygitgor.product_service.dto.client.ProductOwnership;
+import com.mygitgor.product_service.facet.ProductFacetEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class ProductQueryRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Category shoes = new Category("Shoes", "shoes", null, 1);
+        entityManager.persist(shoes);
+
+        UUID sellerId = UUID.randomUUID();
+        for (int i = 0; i < 10; i++) {
+            Product product = Product.create("Runner " + i, "Running shoe", i % 3,
+                    2000, 1000 + i * 100, sellerId, i % 2 == 0 ? "Nike" : "Adidas", "black", "42");
+            product.setDiscountPercent(i * 5);
+            product.setCategory(shoes);
+            product.getImages().add("runner-" + i + ".png");
+            entityManager.persist(product);
+        }
+        Product inactive = Product.create("Hidden", "Inactive", 5, 2000, 1500, sellerId, "Nike", "black", "42");
+        inactive.setActive(false);
+        entityManager.persist(inactive);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findProductPage_AppliesFiltersSortAndPaging() {
+        ProductFilter filter = ProductFilter.builder()
+                .category("shoes")
+                .brands(List.of("Nike"))
+                .minPrice(1200)
+                .inStock(true)
+                .build();
+
+        Page<ProductDto> page = productRepository.findProductPage(ProductSpecifications.matching(filter),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "sellingPrice")));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of(1800, 1400), page.getContent().stream().map(ProductDto::getSellingPrice).toList());
+        assertTrue(page.getContent().stream().allMatch(product -> product.getImages().size() == 1));
+    }
+
+    @Test
+    void findProductPage_ExcludesInactiveProducts() {
+        Page<ProductDto> page = productRepository.findProductPage(
+                ProductSpecifications.matching(new ProductFilter()), PageRequest.of(1, 4, Sort.by("createdAt")));
+
+        assertEquals(10, page.getTotalElements());
+        assertEquals(4, page.getContent().size());
+        assertTrue(page.getContent().stream().noneMatch(product -> product.getTitle().equals("Hidden")));
+    }
+
+    @Test
+    void findFacetEntries_PagesActiveProductsById() {
+        List<ProductFacetEntry> first = productRepository.findFacetEntries(new UUID(0L, 0L), Limit.of(6));
+        List<ProductFacetEntry> rest = productRepository.findFacetEntries(first.get(5).getId(), Limit.of(6));
+
+        assertEquals(6, first.size());
+        assertEquals(4, rest.size());
+        assertTrue(first.stream().allMatch(entry -> entry.getCategoryId().equals("shoes")));
+    }
+
+    @Test
+    void findOwnershipByIdIn_ReturnsProjectionIncludingInactiveProducts() {
+        List<UUID> ids = productRepository.findAll().stream().map(Product::getId).toList();
+
+        List<ProductOwnership> owners = productRepository.findOwnershipByIdIn(ids);
+
+        assertEquals(11, owners.size());
+        assertEquals(1, owners.stream().filter(owner -> !owner.getActive()).count());
+        assertTrue(productRepository.findOwnershipById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void applyRating_MaintainsRunningAggregates() {
+        UUID productId = productRepository.findAll().get(0).getId();
+
+        productRepository.applyRating(productId, 5.0, 5, 1);
+        productRepository.applyRating(productId, 2.0, 2, 1);
+        productRepository.applyRating(productId, 4.0, 4, 1);
+        productRepository.applyRating(productId, 2.0, 2, -1);
+        entityManager.clear();
+
+        RatingSummary summary = productRepository.findRatingSummary(productId).orElseThrow();
+        assertEquals(2, summary.getReviewCount());
+        assertEquals(4.5, summary.getAverageRating(), 1e-9);
+        assertEquals(Map.of(5, 1, 4, 1, 3, 0, 2, 0, 1, 0), summary.getHistogram());
+
+        productRepository.applyRating(productId, 5.0, 5, -1);
+        productRepository.applyRating(productId, 4.0, 4, -1);
+        entityManager.clear();
+
+        RatingSummary empty = productRepository.findRatingSummary(productId).orElseThrow();
+        assertEquals(0, empty.getReviewCount());
+        assertEquals(0.0, empty.getAverageRating(), 1e-9);
+    }
+
+    @Test
+    void applyRating_TreatsMissingAggregatesAsZero() {
+        UUID productId = productRepository.findAll().get(0).getId();
+        entityManager.getEntityManager().createNativeQuery("""
+                        UPDATE products SET rating_sum = NULL, review_count = NULL, average_rating = NULL,
+                            one_star_count = NULL, two_star_count = NULL, three_star_count = NULL,
+                            four_star_count = NULL, five_star_count = NULL
+                        WHERE id = :id
+                        """)
+                .setParameter("id", productId)
+                .executeUpdate();
+
+        productRepository.applyRating(productId, 3.0, 3, 1);
+        entityManager.clear();
+
+        RatingSummary summary = productRepository.findRatingSummary(productId).orElseThrow();
+        assertEquals(1, summary.getReviewCount());
+        assertEquals(3.0, summary.getAverageRating(), 1e-9);
+        assertEquals(Map.of(5, 0, 4, 0, 3, 1, 2, 0, 1, 0), summary.getHistogram());
+    }
+
+    @Test
+    void updateActive_OnlyTouchesTheSellersProducts() {
+        Product foreign = Product.create("Other", "Other seller", 1, 2000, 1500, UUID.randomUUID(), "Puma", "red", "40");
+        entityManager.persist(foreign);
+        List<Product> own = productRepository.findAll().stream()
+                .filter(product -> !product.getId().equals(foreign.getId()))
+                .limit(3)
+                .toList();
+        UUID sellerId = own.get(0).getSellerId();
+        List<UUID> requested = new ArrayList<>(own.stream().map(Product::getId).toList());
+        requested.add(foreign.getId());
+
+        List<UUID> owned = productRepository.lockStatusRows(requested, sellerId).stream()
+                .map(ProductRepository.ProductStatusRow::getId)
+                .toList();
+        int updated = productRepository.updateActive(requested, sellerId, false, LocalDateTime.now());
+
+        assertEquals(3, owned.size());
+        assertFalse(owned.contains(foreign.getId()));
+        assertEquals(3, updated);
+        assertTrue(productRepository.findById(foreign.getId()).orElseThrow().getActive());
+    }
+}
@@ -0,0 +1,98 @@
+package com.mygitgor.product_service.repository;
+
+import com.mygitgor.product_service.domain.Product;
+import com.mygitgor.product_service.domain.Review;
+import com.mygitgor.product_service.domain.ReviewStatus;
+import com.mygitgor.product_service.dto.ReviewSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class ReviewRepositoryTest {
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.create("Runner", "Running shoe", 5, 2000, 1500, UUID.randomUUID(),
+                "Nike", "black", "42");
+        entityManager.persist(product);
+        productId = product.getId();
+
+        for (int i = 0; i < 7; i++) {
+            Review review = Review.create("Review " + i, 1.0 + i % 5, "user-" + i, "User " + i, product);
+            review.setStatus(ReviewStatus.ACTIVE);
+            review.setHelpfulCount(i % 3);
+            entityManager.persist(review);
+        }
+        Review pending = Review.create("Pending", 5.0, "user-x", "User X", product);
+        entityManager.persist(pending);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findByProduct_ScrollsVisibleReviewsByHelpfulnessWithoutGapsOrDuplicates() {
+        List<Review> seen = new ArrayList<>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Review> window;
+        do {
+            window = reviewRepository.findByProduct_IdAndStatusAndApprovedTrue(productId, ReviewStatus.ACTIVE,
+                    position, ReviewSort.HELPFUL.toSort(), Limit.of(3));
+            seen.addAll(window.getContent());
+            if (!window.isEmpty()) {
+                position = window.positionAt(window.size() - 1);
+            }
+        } while (window.hasNext());
+
+        assertEquals(7, seen.size());
+        assertEquals(7, seen.stream().map(Review::getId).distinct().count());
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).getHelpfulCount() >= seen.get(i).getHelpfulCount());
+        }
+    }
+
+    @Test
+    void adjustHelpfulCount_UpdatesCounterInPlace() {
+        UUID reviewId = reviewRepository.findAll().get(0).getId();
+        int before = reviewRepository.findHelpfulCount(reviewId).orElseThrow();
+
+        reviewRepository.adjustHelpfulCount(reviewId, 1);
+
+        assertEquals(before + 1, reviewRepository.findHelpfulCount(reviewId).orElseThrow());
+    }
+
+    @Test
+    void moderate_TreatsLegacyNullApprovalAsNotApproved() {
+        Review legacy = reviewRepository.findAll().get(0);
+        legacy.setApproved(null);
+        reviewRepository.saveAndFlush(legacy);
+
+        int updated = reviewRepository.moderate(legacy.getId(), ReviewStatus.ACTIVE, false,
+                ReviewStatus.ACTIVE, true, "legacy", LocalDateTime.now());
+
+        entityManager.clear();
+        assertEquals(1, updated);
+        assertTrue(reviewRepository.findById(legacy.getId()).orElseThrow().getApproved());
+    }
+}
@@ -0,0 +1,98 @@
+package com.mygitgor.product_service.search;
+
+import com.mygitgor.product_service.domain.Product;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSearchIndexTest {
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new ProductSearchIndex(new ByteBuffersDirectory());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void search_RanksTitleMatchesAboveDescriptionMatches() {
+        Product titleMatch = product("Trail running shoe", "Lightweight", "Salomon");
+        Product descriptionMatch = product("Everyday sneaker", "Good enough for running errands", "Puma");
+        index.index(descriptionMatch);
+        index.index(titleMatch);
+        index.refresh();
+
+        ProductSearchIndex.Hits hits = index.search("running", 0, 10);
+
+        assertEquals(2, hits.getTotal());
+        assertEquals(List.of(titleMatch.getId(), descriptionMatch.getId()), hits.getProductIds());
+    }
+
+    @Test
+    void search_PaginatesAndMatchesTagsAndBrand() {
+        for (int i = 0; i < 5; i++) {
+            Product product = product("Jacket " + i, "Warm", "Northwind");
+            product.getTags().add("winter");
+            index.index(product);
+        }
+        index.refresh();
+
+        ProductSearchIndex.Hits firstPage = index.search("winter northwind", 0, 2);
+        ProductSearchIndex.Hits lastPage = index.search("winter northwind", 4, 2);
+
+        assertEquals(5, firstPage.getTotal());
+        assertEquals(2, firstPage.getProductIds().size());
+        assertEquals(1, lastPage.getProductIds().size());
+    }
+
+    @Test
+    void index_ReplacesUpdatedAndDropsInactiveProducts() {
+        Product product = product("Leather wallet", "Slim", "Acme");
+        index.index(product);
+        index.refresh();
+
+        product.setTitle("Canvas wallet");
+        index.index(product);
+        index.refresh();
+        assertEquals(0, index.search("leather", 0, 10).getTotal());
+        assertEquals(1, index.search("canvas", 0, 10).getTotal());
+
+        product.setActive(false);
+        index.index(product);
+        index.refresh();
+        assertEquals(0, index.search("wallet", 0, 10).getTotal());
+    }
+
+    @Test
+    void finishRebuild_RemovesDocumentsNotSeenByRebuild() {
+        Product kept = product("Desk lamp", "LED", "Lumen");
+        Product removed = product("Floor lamp", "Halogen", "Lumen");
+        index.index(kept);
+        index.index(removed);
+        index.refresh();
+
+        long generation = index.beginRebuild();
+        index.index(kept);
+        index.finishRebuild(generation);
+        index.refresh();
+
+        assertEquals(List.of(kept.getId()), index.search("lamp", 0, 10).getProductIds());
+    }
+
+    private static Product product(String title, String description, String brand) {
+        Product product = Product.create(title, description, 1, 2000, 1500, UUID.randomUUID(), brand, "black", "M");
+        product.setId(UUID.randomUUID());
+        return product;
+    }
+}
@@ -0,0 +1,150 @@
+package com.mygitgor.product_service.service;
+
+import com.mygitgor.product_service.client.OrderClient;
+import com.mygitgor.product_service.domain.Product;
+import com.mygitgor.product_service.domain.ReservationStatus;
+import com.mygitgor.product_service.domain.StockReservation;
+import com.mygitgor.product_service.dto.client.StockReservationRequest;
+import com.mygitgor.product_service.dto.client.StockReservationResponse;
+import com.mygitgor.product_service.repository.StockReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "product.reservation.expiry.grace=2m"
+})
+@Import(StockReservationServiceImpl.class)
+class StockReservationServiceTest {
+
+    @Autowired
+    private StockReservationService reservationService;
+
+    @Autowired
+    private StockReservationRepository reservationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private OrderClient orderClient;
+
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.create("Runner", "Running shoe", 10, 2000, 1500,
+                UUID.randomUUID(), "Nike", "black", "42");
+        entityManager.persist(product);
+        entityManager.flush();
+        productId = product.getId();
+    }
+
+    @Test
+    void reserve_HoldsStockAndReturnsExistingHoldForSameReference() {
+        StockReservationResponse first = reservationService.reserve(request("ref-1", 4));
+        StockReservationResponse replay = reservationService.reserve(request("ref-1", 4));
+
+        assertEquals(ReservationStatus.HELD, first.getStatus());
+        assertEquals(first.getReservationId(), replay.getReservationId());
+        assertEquals(6, quantity());
+    }
+
+    @Test
+    void reserve_RejectsInsufficientStock() {
+        StockReservationResponse response = reservationService.reserve(request("ref-1", 11));
+
+        assertNull(response.getReservationId());
+        assertEquals(List.of(productId), response.getOutOfStockProducts());
+    }
+
+    @Test
+    void confirm_IsIdempotentAndBlocksRelease() {
+        UUID reservationId = reservationService.reserve(request("ref-1", 4)).getReservationId();
+
+        assertEquals(ReservationStatus.CONFIRMED, reservationService.confirm(reservationId).getStatus());
+        entityManager.clear();
+        assertEquals(ReservationStatus.CONFIRMED, reservationService.confirm(reservationId).getStatus());
+        assertThrows(IllegalStateException.class, () -> reservationService.release(reservationId));
+        assertEquals(6, quantity());
+    }
+
+    @Test
+    void release_RestoresStock() {
+        UUID reservationId = reservationService.reserve(request("ref-1", 4)).getReservationId();
+
+        assertEquals(ReservationStatus.RELEASED, reservationService.release(reservationId).getStatus());
+
+        assertEquals(10, quantity());
+        assertThrows(IllegalStateException.class, () -> reservationService.confirm(reservationId));
+    }
+
+    @Test
+    void expireHolds_ReleasesOnlyHoldsPastGraceWithoutOrders() {
+        UUID abandoned = hold("ref-1", LocalDateTime.now().minusMinutes(5));
+        UUID ordered = hold("ref-2", LocalDateTime.now().minusMinutes(5));
+        UUID withinGrace = hold("ref-3", LocalDateTime.now().minusSeconds(30));
+        when(orderClient.findReservationsWithOrders(any())).thenReturn(Set.of(ordered));
+
+        assertEquals(1, reservationService.expireHolds());
+
+        entityManager.clear();
+        assertEquals(ReservationStatus.EXPIRED, status(abandoned));
+        assertEquals(ReservationStatus.CONFIRMED, status(ordered));
+        assertEquals(ReservationStatus.HELD, status(withinGrace));
+        assertEquals(6, quantity());
+        verify(orderClient).findReservationsWithOrders(argThat(ids ->
+                ids.containsAll(List.of(abandoned, ordered)) && !ids.contains(withinGrace)));
+    }
+
+    @Test
+    void expireHolds_KeepsHoldsWhenOrderLookupFails() {
+        UUID reservationId = hold("ref-1", LocalDateTime.now().minusMinutes(5));
+        when(orderClient.findReservationsWithOrders(any())).thenThrow(new IllegalStateException("down"));
+
+        assertEquals(0, reservationService.expireHolds());
+
+        entityManager.clear();
+        assertEquals(ReservationStatus.HELD, status(reservationId));
+        assertEquals(8, quantity());
+    }
+
+    private UUID hold(String referenceId, LocalDateTime expiresAt) {
+        UUID reservationId = reservationService.reserve(request(referenceId, 2)).getReservationId();
+        StockReservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+        reservation.setExpiresAt(expiresAt);
+        reservationRepository.saveAndFlush(reservation);
+        return reservationId;
+    }
+
+    private StockReservationRequest request(String referenceId, int quantity) {
+        StockReservationRequest request = new StockReservationRequest();
+        request.setReferenceId(referenceId);
+        request.setProductQuantities(Map.of(productId, quantity));
+        return request;
+    }
+
+    private ReservationStatus status(UUID reservationId) {
+        return reservationRepository.findById(reservationId).orElseThrow().getStatus();
+    }
+
+    private int quantity() {
+        entityManager.clear();
+        return entityManager.find(Product.class, productId).getQuantity();
+    }
+}
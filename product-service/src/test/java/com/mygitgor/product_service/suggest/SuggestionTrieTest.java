@@ -0,0 +1,61 @@
+package com.mygitgor.product_service.suggest;
+
+import com.mygitgor.product_service.dto.ProductSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionTrieTest {
+
+    private static final SuggestionTrie TRIE = SuggestionTrie.build(List.of(
+            candidate("Nike Air Max", ProductSuggestion.Type.TITLE, 40),
+            candidate("Nike Air Force", ProductSuggestion.Type.TITLE, 90),
+            candidate("Nike", ProductSuggestion.Type.BRAND, 500),
+            candidate("Nikon Camera", ProductSuggestion.Type.TITLE, 10),
+            candidate("Notebooks", ProductSuggestion.Type.CATEGORY, 70),
+            candidate("Air purifier", ProductSuggestion.Type.TITLE, 5)
+    ), 3);
+
+    @Test
+    void suggest_ReturnsHeaviestMatchesForPrefix() {
+        assertEquals(List.of("Nike", "Nike Air Force", "Nike Air Max"), texts(TRIE.suggest("ni", 10)));
+        assertEquals(List.of("Nike Air Force", "Nike Air Max"), texts(TRIE.suggest("nike a", 10)));
+        assertEquals(List.of("Nikon Camera"), texts(TRIE.suggest("NIKO", 10)));
+    }
+
+    @Test
+    void suggest_MatchesInsideCompressedEdges() {
+        assertEquals(List.of("Nike Air Max"), texts(TRIE.suggest("nike  air m", 10)));
+        assertEquals(List.of("Notebooks"), texts(TRIE.suggest("noteb", 10)));
+    }
+
+    @Test
+    void suggest_HandlesMissesAndLimits() {
+        assertTrue(TRIE.suggest("nikez", 10).isEmpty());
+        assertTrue(TRIE.suggest("x", 10).isEmpty());
+        assertTrue(TRIE.suggest("  ", 10).isEmpty());
+        assertEquals(1, TRIE.suggest("n", 1).size());
+        assertEquals(ProductSuggestion.Type.BRAND, TRIE.suggest("n", 1).get(0).getType());
+    }
+
+    @Test
+    void build_KeepsHeaviestDuplicate() {
+        SuggestionTrie trie = SuggestionTrie.build(List.of(
+                candidate("Puma", ProductSuggestion.Type.TITLE, 3),
+                candidate("puma", ProductSuggestion.Type.BRAND, 30)
+        ), 5);
+
+        assertEquals(1, trie.size());
+        assertEquals(ProductSuggestion.Type.BRAND, trie.suggest("pu", 5).get(0).getType());
+    }
+
+    private static SuggestionTrie.Candidate candidate(String text, ProductSuggestion.Type type, long weight) {
+        return new SuggestionTrie.Candidate(SuggestionTrie.normalize(text), text, type, weight);
+    }
+
+    private static List<String> texts(List<ProductSuggestion> suggestions) {
+        return suggestions.stream().map(ProductSuggestion::getText).toList();
+    }
+}
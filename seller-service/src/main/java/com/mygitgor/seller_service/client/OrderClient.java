@@ -1,6 +1,9 @@
 package com.mygitgor.seller_service.client;
 
+import com.mygitgor.seller_service.dto.client.order.BulkOrderStatusUpdateRequest;
+import com.mygitgor.seller_service.dto.client.order.BulkOrderStatusUpdateResponse;
 import com.mygitgor.seller_service.dto.client.order.OrderDto;
+import com.mygitgor.seller_service.dto.client.order.OrderPage;
 import com.mygitgor.seller_service.dto.client.order.OrderStatus;
 import com.mygitgor.seller_service.dto.client.order.UpdateOrderStatusRequest;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -31,16 +34,18 @@ public class OrderClient {
     @CircuitBreaker(name = "orderService", fallbackMethod = "getSellerOrdersFallback")
     @Retry(name = "orderService", fallbackMethod = "getSellerOrdersFallback")
     @RateLimiter(name = "orderService")
-    public List<OrderDto> getSellerOrders(String sellerId) {
+    public OrderPage getSellerOrders(String sellerId, String cursor, Integer size) {
         String url = UriComponentsBuilder.fromUriString(orderServiceUrl)
                 .path("/seller/{sellerId}")
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                .queryParamIfPresent("size", Optional.ofNullable(size))
                 .buildAndExpand(sellerId)
                 .toUriString();
-        ResponseEntity<OrderDto[]> response = restTemplate.exchange(
-                url, HttpMethod.GET, createHttpEntity(null), OrderDto[].class
+        ResponseEntity<OrderPage> response = restTemplate.exchange(
+                url, HttpMethod.GET, createHttpEntity(null), OrderPage.class
         );
         log.debug("Retrieved orders for seller: {}", sellerId);
-        return response.getBody() != null ? Arrays.asList(response.getBody()) : Collections.emptyList();
+        return response.getBody() != null ? response.getBody() : OrderPage.empty();
 
     }
 
@@ -66,6 +71,23 @@ public class OrderClient {
 
     }
 
+    @CircuitBreaker(name = "orderService", fallbackMethod = "bulkUpdateOrderStatusFallback")
+    @Retry(name = "orderService", fallbackMethod = "bulkUpdateOrderStatusFallback")
+    public BulkOrderStatusUpdateResponse bulkUpdateOrderStatus(BulkOrderStatusUpdateRequest request) {
+        String url = UriComponentsBuilder.fromUriString(orderServiceUrl)
+                .path("/status/bulk")
+                .toUriString();
+
+        ResponseEntity<BulkOrderStatusUpdateResponse> response = restTemplate.exchange(
+                url,
+                HttpMethod.PATCH,
+                createHttpEntity(request),
+                BulkOrderStatusUpdateResponse.class
+        );
+        log.debug("Bulk updated {} orders to status: {}", request.getOrderIds().size(), request.getStatus());
+        return response.getBody();
+    }
+
     @CircuitBreaker(name = "orderService", fallbackMethod = "getOrderByIdFallback")
     @Retry(name = "orderService", fallbackMethod = "getOrderByIdFallback")
     public OrderDto getOrderById(String orderId) {
@@ -83,15 +105,17 @@ public class OrderClient {
 
     @CircuitBreaker(name = "orderService", fallbackMethod = "getUserOrdersFallback")
     @Retry(name = "orderService", fallbackMethod = "getUserOrdersFallback")
-    public List<OrderDto> getUserOrders(String userId) {
+    public OrderPage getUserOrders(String userId, String cursor, Integer size) {
         String url = UriComponentsBuilder.fromUriString(orderServiceUrl)
                 .path("/user/{userId}")
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                .queryParamIfPresent("size", Optional.ofNullable(size))
                 .buildAndExpand(userId)
                 .toUriString();
-        ResponseEntity<OrderDto[]> response = restTemplate.exchange(
-                url, HttpMethod.GET,createHttpEntity(null), OrderDto[].class);
+        ResponseEntity<OrderPage> response = restTemplate.exchange(
+                url, HttpMethod.GET,createHttpEntity(null), OrderPage.class);
         log.debug("Retrieved orders for user: {}", userId);
-        return response.getBody() != null ? Arrays.asList(response.getBody()) : Collections.emptyList();
+        return response.getBody() != null ? response.getBody() : OrderPage.empty();
     }
 
     private <T> HttpEntity<T> createHttpEntity(T body) {
@@ -101,9 +125,9 @@ public class OrderClient {
         return new HttpEntity<>(body, headers);
     }
 
-    private List<OrderDto> getSellerOrdersFallback(String sellerId, Exception e) {
+    private OrderPage getSellerOrdersFallback(String sellerId, String cursor, Integer size, Exception e) {
         log.warn("Using fallback for seller orders: {}, error: {}", sellerId, e.getMessage());
-        return Collections.emptyList();
+        return OrderPage.empty();
     }
 
     private Boolean updateOrderStatusFallback(String orderId, OrderStatus orderStatus, Exception e) {
@@ -112,14 +136,25 @@ public class OrderClient {
         return false;
     }
 
+    private BulkOrderStatusUpdateResponse bulkUpdateOrderStatusFallback(BulkOrderStatusUpdateRequest request,
+                                                                        Exception e) {
+        log.warn("Using fallback for bulk order status update to {}, error: {}",
+                request.getStatus(), e.getMessage());
+        return BulkOrderStatusUpdateResponse.builder()
+                .status(request.getStatus())
+                .rejectedOrderIds(request.getOrderIds())
+                .error("Order service unavailable")
+                .build();
+    }
+
     private OrderDto getOrderByIdFallback(String orderId, Exception e) {
         log.warn("Using fallback for order: {}, error: {}", orderId, e.getMessage());
         throw new RuntimeException("Order service unavailable for order: " + orderId);
     }
 
-    private List<OrderDto> getUserOrdersFallback(String userId, Exception e) {
+    private OrderPage getUserOrdersFallback(String userId, String cursor, Integer size, Exception e) {
         log.warn("Using fallback for user orders: {}, error: {}", userId, e.getMessage());
-        return Collections.emptyList();
+        return OrderPage.empty();
     }
 
 }
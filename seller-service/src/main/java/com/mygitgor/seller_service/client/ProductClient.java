@@ -2,6 +2,7 @@ package com.mygitgor.seller_service.client;
 
 import com.mygitgor.seller_service.dto.client.CreateProductRequest;
 import com.mygitgor.seller_service.dto.client.ProductDto;
+import com.mygitgor.seller_service.dto.client.ProductOwnership;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
@@ -67,14 +68,14 @@ public class ProductClient {
 
     @CircuitBreaker(name = "productService", fallbackMethod = "updateProductFallback")
     @Retry(name = "productService", fallbackMethod = "updateProductFallback")
-    public ProductDto updateProduct(String productId, ProductDto productDto){
+    public ProductDto updateProduct(String productId, ProductDto productDto, String sellerId){
         String url = UriComponentsBuilder.fromUriString(productServiceUrl)
                 .path("/{productId}")
                 .buildAndExpand(productId)
                 .toUriString();
 
         ResponseEntity<ProductDto> response = restTemplate.exchange(
-                url, HttpMethod.PUT, createHttpEntity(productDto), ProductDto.class
+                url, HttpMethod.PUT, createSellerHttpEntity(productDto, sellerId), ProductDto.class
         );
 
         log.debug("Updated product: {}", productId);
@@ -83,7 +84,7 @@ public class ProductClient {
 
     @CircuitBreaker(name = "productService", fallbackMethod = "deleteProductFallback")
     @Retry(name = "productService", fallbackMethod = "deleteProductFallback")
-    public Boolean deleteProduct(String productId) {
+    public Boolean deleteProduct(String productId, String sellerId) {
         String url = UriComponentsBuilder.fromUriString(productServiceUrl)
                 .path("/{productId}")
                 .buildAndExpand(productId)
@@ -92,7 +93,7 @@ public class ProductClient {
         ResponseEntity<Void> response = restTemplate.exchange(
                 url,
                 HttpMethod.DELETE,
-                createHttpEntity(null),
+                createSellerHttpEntity(null, sellerId),
                 Void.class
         );
         log.info("Deleted product: {}", productId);
@@ -115,6 +116,29 @@ public class ProductClient {
         return response.getBody();
     }
 
+    @CircuitBreaker(name = "productService", fallbackMethod = "getProductOwnershipFallback")
+    @Retry(name = "productService", fallbackMethod = "getProductOwnershipFallback")
+    public ProductOwnership getProductOwnership(String productId) {
+        String url = UriComponentsBuilder.fromUriString(productServiceUrl)
+                .path("/{productId}/ownership")
+                .buildAndExpand(productId)
+                .toUriString();
+
+        ResponseEntity<ProductOwnership> response = restTemplate.exchange(
+                url, HttpMethod.GET, createHttpEntity(null), ProductOwnership.class
+        );
+        log.debug("Retrieved ownership for product: {}", productId);
+        return response.getBody();
+    }
+
+    private <T> HttpEntity<T> createSellerHttpEntity(T body, String sellerId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Internal-Service-Auth", internalToken);
+        headers.set("X-Seller-Id", sellerId);
+        return new HttpEntity<>(body, headers);
+    }
+
     private <T> HttpEntity<T> createHttpEntity(T body) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -132,12 +156,12 @@ public class ProductClient {
         throw new RuntimeException("Product service unavailable for creation");
     }
 
-    private ProductDto updateProductFallback(String productId, ProductDto productDto, Exception e) {
+    private ProductDto updateProductFallback(String productId, ProductDto productDto, String sellerId, Exception e) {
         log.warn("Using fallback for product update: {}, error: {}", productId, e.getMessage());
         throw new RuntimeException("Product service unavailable for update");
     }
 
-    private Boolean deleteProductFallback(String productId, Exception e) {
+    private Boolean deleteProductFallback(String productId, String sellerId, Exception e) {
         log.warn("Using fallback for product deletion: {}, error: {}", productId, e.getMessage());
         return false;
     }
@@ -146,4 +170,9 @@ public class ProductClient {
         log.warn("Using fallback for product: {}, error: {}", productId, e.getMessage());
         throw new RuntimeException("Product service unavailable for product: " + productId);
     }
+
+    private ProductOwnership getProductOwnershipFallback(String productId, Exception e) {
+        log.warn("Using fallback for product ownership: {}, error: {}", productId, e.getMessage());
+        throw new RuntimeException("Product service unavailable for product: " + productId);
+    }
 }
@@ -1,7 +1,8 @@
 package com.mygitgor.seller_service.controller;
 
 import com.mygitgor.seller_service.config.JwtUtils;
-import com.mygitgor.seller_service.dto.client.order.OrderDto;
+import com.mygitgor.seller_service.dto.client.order.BulkOrderStatusUpdateResponse;
+import com.mygitgor.seller_service.dto.client.order.OrderPage;
 import com.mygitgor.seller_service.dto.client.order.OrderStatus;
 import com.mygitgor.seller_service.service.SellerOrderService;
 import com.mygitgor.seller_service.service.SellerService;
@@ -11,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/sellers/orders")
@@ -21,11 +23,12 @@ public class SellerOrderController {
     private final JwtUtils jwtUtils;
 
     @GetMapping
-    public ResponseEntity<List<OrderDto>> getAllOrdersHandler(@RequestHeader("Authorization")
-                                                                String jwt
+    public ResponseEntity<OrderPage> getAllOrdersHandler(@RequestHeader("Authorization") String jwt,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer size
     ) {
         String sellerId = jwtUtils.extractUserId(jwt);
-        List<OrderDto> orders = sellerOrderService.getSellerOrders(sellerId);
+        OrderPage orders = sellerOrderService.getSellerOrders(sellerId, cursor, size);
         return new ResponseEntity<>(orders, HttpStatus.ACCEPTED);
     }
 
@@ -43,4 +46,15 @@ public class SellerOrderController {
         }
     }
 
+    @PatchMapping("/status/{orderStatus}")
+    public ResponseEntity<BulkOrderStatusUpdateResponse> bulkUpdateOrderHandler(@PathVariable OrderStatus orderStatus,
+                                                                                @RequestBody List<UUID> orderIds,
+                                                                                @RequestHeader("Authorization") String jwt
+    ) {
+        String sellerId = jwtUtils.extractUserId(jwt);
+        BulkOrderStatusUpdateResponse response =
+                sellerOrderService.updateOrderStatuses(sellerId, orderIds, orderStatus);
+        return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+    }
+
 }
@@ -0,0 +1,17 @@
+package com.mygitgor.seller_service.dto.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductOwnership {
+    private UUID id;
+    private UUID sellerId;
+    private Boolean active;
+    private Integer quantity;
+}
@@ -0,0 +1,21 @@
+package com.mygitgor.seller_service.dto.client.order;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderStatusUpdateRequest {
+    @NotEmpty
+    private List<UUID> orderIds;
+    @NotNull
+    private OrderStatus status;
+    private UUID sellerId;
+}
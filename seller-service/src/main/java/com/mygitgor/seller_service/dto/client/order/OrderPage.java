@@ -0,0 +1,24 @@
+package com.mygitgor.seller_service.dto.client.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPage {
+    @Builder.Default
+    private List<OrderSummaryDto> items = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static OrderPage empty() {
+        return new OrderPage();
+    }
+}
@@ -0,0 +1,37 @@
+package com.mygitgor.seller_service.dto.client.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Row of order-service's order_summary read model. Listings do not carry order items; fetch
+ * the full {@link OrderDto} by id when they are needed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDto {
+    private UUID id;
+    private String orderId;
+
+    private String userId;
+    private UUID sellerId;
+    private UUID addressId;
+
+    private Integer totalMrpPrice;
+    private Integer totalSellingPrice;
+    private Integer discount;
+    private Integer totalItem;
+
+    private OrderStatus orderStatus;
+    private PaymentStatus paymentStatus;
+
+    private LocalDateTime orderDate;
+    private LocalDateTime deliverDate;
+}
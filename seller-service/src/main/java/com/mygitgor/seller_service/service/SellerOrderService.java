@@ -1,13 +1,16 @@
 package com.mygitgor.seller_service.service;
 
-import com.mygitgor.seller_service.dto.client.order.OrderDto;
+import com.mygitgor.seller_service.dto.client.order.BulkOrderStatusUpdateResponse;
+import com.mygitgor.seller_service.dto.client.order.OrderPage;
 import com.mygitgor.seller_service.dto.client.order.OrderStatus;
 
 import java.util.List;
+import java.util.UUID;
 
 public interface SellerOrderService {
-    List<OrderDto> getSellerOrders(String sellerId);
+    OrderPage getSellerOrders(String sellerId, String cursor, Integer size);
     boolean confirmOrder(String orderId);
     boolean updateOrderStatus(String orderId, OrderStatus orderStatus);
+    BulkOrderStatusUpdateResponse updateOrderStatuses(String sellerId, List<UUID> orderIds, OrderStatus orderStatus);
     
 }
@@ -1,13 +1,16 @@
 package com.mygitgor.seller_service.service.impl;
 
 import com.mygitgor.seller_service.client.OrderClient;
-import com.mygitgor.seller_service.dto.client.order.OrderDto;
+import com.mygitgor.seller_service.dto.client.order.BulkOrderStatusUpdateRequest;
+import com.mygitgor.seller_service.dto.client.order.BulkOrderStatusUpdateResponse;
+import com.mygitgor.seller_service.dto.client.order.OrderPage;
 import com.mygitgor.seller_service.dto.client.order.OrderStatus;
 import com.mygitgor.seller_service.service.SellerOrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -15,8 +18,8 @@ public class SellerOrderServiceImpl implements SellerOrderService {
     private final OrderClient orderClient;
 
     @Override
-    public List<OrderDto> getSellerOrders(String sellerId) {
-        return orderClient.getSellerOrders(sellerId);
+    public OrderPage getSellerOrders(String sellerId, String cursor, Integer size) {
+        return orderClient.getSellerOrders(sellerId, cursor, size);
     }
 
     @Override
@@ -28,4 +31,11 @@ public class SellerOrderServiceImpl implements SellerOrderService {
     public boolean updateOrderStatus(String orderId, OrderStatus orderStatus) {
         return orderClient.updateOrderStatus(orderId, OrderStatus.SHIPPED);
     }
+
+    @Override
+    public BulkOrderStatusUpdateResponse updateOrderStatuses(String sellerId, List<UUID> orderIds,
+                                                             OrderStatus orderStatus) {
+        return orderClient.bulkUpdateOrderStatus(
+                new BulkOrderStatusUpdateRequest(orderIds, orderStatus, UUID.fromString(sellerId)));
+    }
 }
@@ -3,6 +3,7 @@ package com.mygitgor.seller_service.service.impl;
 import com.mygitgor.seller_service.client.ProductClient;
 import com.mygitgor.seller_service.dto.client.CreateProductRequest;
 import com.mygitgor.seller_service.dto.client.ProductDto;
+import com.mygitgor.seller_service.dto.client.ProductOwnership;
 import com.mygitgor.seller_service.repository.SellerRepository;
 import com.mygitgor.seller_service.service.SellerProductService;
 import lombok.RequiredArgsConstructor;
@@ -47,14 +48,11 @@ public class SellerProductServiceImpl implements SellerProductService {
     public ProductDto updateProduct(String productId, ProductDto productDto, String sellerId) {
         try {
             log.info("Updating product {} for seller: {}", productId, sellerId);
-            ProductDto existingProduct = productClient.getProductById(productId);
-            if (!existingProduct.getSellerId().toString().equals(sellerId)) {
-                throw new RuntimeException("Product does not belong to seller");
-            }
+            verifyOwnership(productId, sellerId);
 
             productDto.setSellerId(UUID.fromString(sellerId));
 
-            return productClient.updateProduct(productId, productDto);
+            return productClient.updateProduct(productId, productDto, sellerId);
         } catch (Exception e) {
             log.error("Error updating product {}: {}", productId, e.getMessage());
             throw new RuntimeException("Failed to update product");
@@ -65,12 +63,9 @@ public class SellerProductServiceImpl implements SellerProductService {
     public Boolean deleteProduct(String productId, String sellerId) {
         try {
             log.info("Deleting product {} for seller: {}", productId, sellerId);
-            ProductDto existingProduct = productClient.getProductById(productId);
-            if (!existingProduct.getSellerId().toString().equals(sellerId)) {
-                throw new RuntimeException("Product does not belong to seller");
-            }
+            verifyOwnership(productId, sellerId);
 
-            return productClient.deleteProduct(productId);
+            return productClient.deleteProduct(productId, sellerId);
         } catch (Exception e) {
             log.error("Error deleting product {}: {}", productId, e.getMessage());
             throw new RuntimeException("Failed to delete product");
@@ -94,4 +89,11 @@ public class SellerProductServiceImpl implements SellerProductService {
             throw new RuntimeException("Failed to retrieve product");
         }
     }
+
+    private void verifyOwnership(String productId, String sellerId) {
+        ProductOwnership ownership = productClient.getProductOwnership(productId);
+        if (ownership == null || !ownership.getSellerId().toString().equals(sellerId)) {
+            throw new RuntimeException("Product does not belong to seller");
+        }
+    }
 }